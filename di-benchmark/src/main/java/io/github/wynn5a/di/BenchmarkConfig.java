@@ -0,0 +1,43 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * 与 {@link ContainerBenchmark#containerConfig()} 相同的绑定，构建时由 validateContainer 任务校验并写入快照
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+class BenchmarkConfig implements Config {
+
+  @Export(Repository.class)
+  InMemoryRepository repository;
+
+  @Named("primary")
+  @Export(Repository.class)
+  InMemoryRepository primary;
+
+  @Named("secondary")
+  @Export(Repository.class)
+  InMemoryRepository secondary;
+
+  @Singleton
+  @Export(Clock.class)
+  SystemClock clock;
+
+  @Export(Codec.class)
+  JsonCodec codec;
+
+  @Export(Cache.class)
+  MapCache cache;
+
+  @Export(Service.class)
+  ConstructorService service;
+
+  FieldHeavyService fieldHeavy;
+
+  MethodHeavyService methodHeavy;
+
+  ProviderService provider;
+}
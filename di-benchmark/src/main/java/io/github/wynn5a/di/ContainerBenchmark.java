@@ -0,0 +1,210 @@
+package io.github.wynn5a.di;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 同一组场景分别在本容器（*_di）和 Guice（*_guice）上运行，配合 -prof gc 比较耗时与分配
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerBenchmark {
+
+  private static final InstanceTypeRef<Service> SERVICE = InstanceTypeRef.of(Service.class);
+  private static final InstanceTypeRef<Clock> CLOCK = InstanceTypeRef.of(Clock.class);
+  private static final InstanceTypeRef<FieldHeavyService> FIELD_HEAVY = InstanceTypeRef.of(FieldHeavyService.class);
+  private static final InstanceTypeRef<MethodHeavyService> METHOD_HEAVY = InstanceTypeRef.of(MethodHeavyService.class);
+  private static final InstanceTypeRef<ProviderService> PROVIDER_SERVICE = InstanceTypeRef.of(ProviderService.class);
+  private static final InstanceTypeRef<jakarta.inject.Provider<Repository>> REPOSITORY_PROVIDER = new InstanceTypeRef<>() {
+  };
+  private static final InstanceTypeRef<TracedService> TRACED = InstanceTypeRef.of(TracedService.class);
+  private static final InstanceTypeRef<Repository> PRIMARY = InstanceTypeRef.of(Repository.class, new NamedQualifier("primary"));
+
+  private static final Key<javax.inject.Provider<Repository>> GUICE_REPOSITORY_PROVIDER = Key.get(
+      new TypeLiteral<javax.inject.Provider<Repository>>() {
+      });
+  private static final Key<Repository> GUICE_PRIMARY = Key.get(Repository.class, Names.named("primary"));
+
+  private Container container;
+  private Injector injector;
+  private ProviderService providerService;
+  private GuiceProviderService guiceProviderService;
+  private final Trace trace = new TraceContext();
+
+  @Setup
+  public void setup() {
+    ContainerConfig config = containerConfig();
+    config.childBinding(Trace.class);
+    config.bind(TracedService.class, TracedService.class);
+    container = config.getContainer();
+    injector = Guice.createInjector(new GuiceModule());
+    providerService = container.get(PROVIDER_SERVICE).get();
+    guiceProviderService = injector.getInstance(GuiceProviderService.class);
+  }
+
+  static ContainerConfig containerConfig() {
+    return containerConfig(new ContainerConfig());
+  }
+
+  static ContainerConfig containerConfig(ContainerConfig config) {
+    config.bind(Repository.class, InMemoryRepository.class);
+    config.bind(Repository.class, InMemoryRepository.class, new NamedQualifier("primary"));
+    config.bind(Repository.class, InMemoryRepository.class, new NamedQualifier("secondary"));
+    config.bind(Clock.class, SystemClock.class, new SingletonLiteral());
+    config.bind(Codec.class, JsonCodec.class);
+    config.bind(Cache.class, MapCache.class);
+    config.bind(Service.class, ConstructorService.class);
+    config.bind(FieldHeavyService.class, FieldHeavyService.class);
+    config.bind(MethodHeavyService.class, MethodHeavyService.class);
+    config.bind(ProviderService.class, ProviderService.class);
+    return config;
+  }
+
+  static class GuiceModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+      bind(Repository.class).to(InMemoryRepository.class);
+      bind(Repository.class).annotatedWith(Names.named("primary")).to(InMemoryRepository.class);
+      bind(Repository.class).annotatedWith(Names.named("secondary")).to(InMemoryRepository.class);
+      bind(Clock.class).to(SystemClock.class).in(Singleton.class);
+      bind(Codec.class).to(JsonCodec.class);
+      bind(Cache.class).to(MapCache.class);
+      bind(Service.class).to(ConstructorService.class);
+      bind(FieldHeavyService.class);
+      bind(MethodHeavyService.class);
+      bind(GuiceProviderService.class);
+    }
+  }
+
+  @Benchmark
+  public Object prototype_di() {
+    return container.get(SERVICE).get();
+  }
+
+  @Benchmark
+  public Object prototype_guice() {
+    return injector.getInstance(Service.class);
+  }
+
+  @Benchmark
+  public Object singleton_di() {
+    return container.get(CLOCK).get();
+  }
+
+  @Benchmark
+  public Object singleton_guice() {
+    return injector.getInstance(Clock.class);
+  }
+
+  @Benchmark
+  public Object provider_di() {
+    return container.get(REPOSITORY_PROVIDER).get().get();
+  }
+
+  @Benchmark
+  public Object provider_guice() {
+    return injector.getInstance(GUICE_REPOSITORY_PROVIDER).get();
+  }
+
+  @Benchmark
+  public Object injectedProvider_di() {
+    return providerService.repository.get();
+  }
+
+  @Benchmark
+  public Object injectedProvider_guice() {
+    return guiceProviderService.repository.get();
+  }
+
+  @Benchmark
+  public Object qualified_di() {
+    return container.get(PRIMARY).get();
+  }
+
+  @Benchmark
+  public Object qualified_guice() {
+    return injector.getInstance(GUICE_PRIMARY);
+  }
+
+  @Benchmark
+  public Object fieldHeavy_di() {
+    return container.get(FIELD_HEAVY).get();
+  }
+
+  @Benchmark
+  public Object fieldHeavy_guice() {
+    return injector.getInstance(FieldHeavyService.class);
+  }
+
+  @Benchmark
+  public Object methodHeavy_di() {
+    return container.get(METHOD_HEAVY).get();
+  }
+
+  @Benchmark
+  public Object methodHeavy_guice() {
+    return injector.getInstance(MethodHeavyService.class);
+  }
+
+  /**
+   * 每个请求创建一个叠加 Trace 的子容器，再获取一个注入了 Trace 的 prototype；Guice 的子 injector 同样只绑定 Trace，TracedService 由它即时绑定
+   */
+  @Benchmark
+  public Object child_di() {
+    Container child = container.child(new Overlay().bind(Trace.class, trace));
+    return child.get(TRACED).get();
+  }
+
+  @Benchmark
+  public Object child_guice() {
+    Injector child = injector.createChildInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(Trace.class).toInstance(trace);
+      }
+    });
+    return child.getInstance(TracedService.class);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 20)
+  @Measurement(iterations = 50)
+  public Object build_di() {
+    return containerConfig().getContainer();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 20)
+  @Measurement(iterations = 50)
+  public Object build_guice() {
+    return Guice.createInjector(new GuiceModule());
+  }
+}
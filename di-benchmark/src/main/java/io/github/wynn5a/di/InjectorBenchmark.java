@@ -0,0 +1,64 @@
+package io.github.wynn5a.di;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 比较 {@link InjectionMode#COMPILED} 与 {@link InjectionMode#REFLECTIVE} 下创建 prototype 组件的开销
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorBenchmark {
+
+  @Param({"COMPILED", "REFLECTIVE"})
+  private InjectionMode mode;
+
+  private InjectedInstanceSupplier<ComponentWithConstructorDependency> constructor;
+  private InjectedInstanceSupplier<ComponentWithFieldInject> field;
+  private InjectedInstanceSupplier<ComponentWithMethodInject> method;
+  private Container container;
+
+  @Setup
+  public void setup() {
+    ContainerConfig config = new ContainerConfig();
+    config.injection(mode);
+    config.bind(Dependency.class, new DependencyInstance());
+    container = config.getContainer();
+
+    constructor = new InjectedInstanceSupplier<>(ComponentWithConstructorDependency.class, mode);
+    field = new InjectedInstanceSupplier<>(ComponentWithFieldInject.class, mode);
+    method = new InjectedInstanceSupplier<>(ComponentWithMethodInject.class, mode);
+  }
+
+  @Benchmark
+  public Object constructorInjection() {
+    return constructor.get(container);
+  }
+
+  @Benchmark
+  public Object fieldInjection() {
+    return field.get(container);
+  }
+
+  @Benchmark
+  public Object methodInjection() {
+    return method.get(container);
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Scope;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 带 64KB 缓冲区的组件，每次创建一个新实例（prototype）与从 PoolScope 借出、用完归还（pooled）的对比，配合 -prof gc 比较分配。
+ * 多线程的版本在 8 个线程上同时借出和归还，池的容量为 8
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolBenchmark {
+
+  private static final InstanceTypeRef<PrototypeParser> PROTOTYPE = InstanceTypeRef.of(PrototypeParser.class);
+
+  private Container container;
+  private Pool<Parser> pool;
+
+  @Setup
+  public void setup() {
+    ContainerConfig config = new ContainerConfig();
+    config.scope(Pooled.class, new PoolScope(8, parser -> ((Parser) parser).reset()));
+    config.bind(Parser.class, Parser.class, new PooledLiteral());
+    config.bind(PrototypeParser.class, PrototypeParser.class);
+    container = config.getContainer();
+    pool = container.get(new InstanceTypeRef<Pool<Parser>>() {
+    }).get();
+  }
+
+  @Benchmark
+  public int prototype() {
+    return container.get(PROTOTYPE).get().parse(42);
+  }
+
+  @Benchmark
+  public int pooled() {
+    try (Lease<Parser> lease = pool.get()) {
+      return lease.get().parse(42);
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int prototypeConcurrently() {
+    return prototype();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int pooledConcurrently() {
+    return pooled();
+  }
+
+  @Scope
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Pooled {
+
+  }
+
+  record PooledLiteral() implements Pooled {
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+      return Pooled.class;
+    }
+  }
+
+  static class Parser {
+
+    private final byte[] buffer = new byte[64 * 1024];
+    private int position;
+
+    int parse(int value) {
+      buffer[position++ & (buffer.length - 1)] = (byte) value;
+      return position;
+    }
+
+    void reset() {
+      Arrays.fill(buffer, 0, Math.min(position, buffer.length), (byte) 0);
+      position = 0;
+    }
+  }
+
+  static class PrototypeParser extends Parser {
+
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.wynn5a.di;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 请求 scope 的吞吐量：每次操作进入一个请求，获取两个 request scoped 组件（其中一个依赖另一个）后退出。
+ * concurrentRequests 把 10000 个请求同时提交到线程池中，每个请求都持有自己的 ScopeContext
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeBenchmark {
+
+  private static final int REQUESTS = 10_000;
+  private static final InstanceTypeRef<Service> SERVICE = InstanceTypeRef.of(Service.class);
+
+  private ContainerConfig config;
+  private Container container;
+  private ExecutorService executor;
+
+  @Setup
+  public void setup() {
+    config = new ContainerConfig();
+    config.bind(Repository.class, InMemoryRepository.class, new RequestScopedLiteral());
+    config.bind(Clock.class, SystemClock.class, new RequestScopedLiteral());
+    config.bind(Codec.class, JsonCodec.class);
+    config.bind(Cache.class, MapCache.class);
+    config.bind(Service.class, ConstructorService.class, new RequestScopedLiteral());
+    container = config.getContainer();
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object request() {
+    try (ScopeContext ignored = config.requestScope().enter()) {
+      container.get(SERVICE).get();
+      return container.get(SERVICE).get();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  public void concurrentRequests() {
+    CompletableFuture<?>[] requests = new CompletableFuture<?>[REQUESTS];
+    for (int i = 0; i < REQUESTS; i++) {
+      requests[i] = CompletableFuture.runAsync(this::request, executor);
+    }
+    CompletableFuture.allOf(requests).join();
+  }
+
+  record RequestScopedLiteral() implements RequestScoped {
+
+    @Override
+    public Class<? extends java.lang.annotation.Annotation> annotationType() {
+      return RequestScoped.class;
+    }
+  }
+}
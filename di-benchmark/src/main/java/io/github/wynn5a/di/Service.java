@@ -0,0 +1,166 @@
+package io.github.wynn5a.di;
+
+/**
+ * 基准测试使用的组件，注入点同时标注 jakarta.inject 与 javax.inject，这样同一组类既可以交给本容器，也可以交给只认识 javax.inject 的 Guice 5
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+interface Service {
+
+}
+
+interface Repository {
+
+}
+
+interface Clock {
+
+}
+
+interface Codec {
+
+}
+
+interface Cache {
+
+}
+
+interface Trace {
+
+}
+
+class TraceContext implements Trace {
+
+}
+
+class InMemoryRepository implements Repository {
+
+}
+
+class SystemClock implements Clock {
+
+}
+
+class JsonCodec implements Codec {
+
+}
+
+class MapCache implements Cache {
+
+}
+
+class ConstructorService implements Service {
+
+  final Repository repository;
+  final Clock clock;
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  ConstructorService(Repository repository, Clock clock) {
+    this.repository = repository;
+    this.clock = clock;
+  }
+}
+
+class TracedService implements Service {
+
+  final Trace trace;
+  final Repository repository;
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  TracedService(Trace trace, Repository repository) {
+    this.trace = trace;
+    this.repository = repository;
+  }
+}
+
+class ProviderService implements Service {
+
+  final jakarta.inject.Provider<Repository> repository;
+
+  @jakarta.inject.Inject
+  ProviderService(jakarta.inject.Provider<Repository> repository) {
+    this.repository = repository;
+  }
+}
+
+class GuiceProviderService implements Service {
+
+  final javax.inject.Provider<Repository> repository;
+
+  @javax.inject.Inject
+  GuiceProviderService(javax.inject.Provider<Repository> repository) {
+    this.repository = repository;
+  }
+}
+
+class FieldHeavyService implements Service {
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Repository repository;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Repository anotherRepository;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Clock clock;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Clock anotherClock;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Codec codec;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Codec anotherCodec;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Cache cache;
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  Cache anotherCache;
+}
+
+class MethodHeavyService implements Service {
+
+  Repository repository;
+  Clock clock;
+  Codec codec;
+  Cache cache;
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  void setRepository(Repository repository) {
+    this.repository = repository;
+  }
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  void setCodec(Codec codec) {
+    this.codec = codec;
+  }
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  void setCache(Cache cache) {
+    this.cache = cache;
+  }
+
+  @jakarta.inject.Inject
+  @javax.inject.Inject
+  void install(Repository repository, Clock clock, Codec codec, Cache cache) {
+    this.repository = repository;
+    this.clock = clock;
+    this.codec = codec;
+    this.cache = cache;
+  }
+}
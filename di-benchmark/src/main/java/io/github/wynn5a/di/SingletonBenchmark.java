@@ -0,0 +1,87 @@
+package io.github.wynn5a.di;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.internal.SingletonScope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 多线程下读取已经初始化的 singleton 的吞吐量：并发安全的 {@link SingletonInstanceSupplier}、之前不加同步的实现、Guice 的 SingletonScope
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class SingletonBenchmark {
+
+  private Container container;
+  private InstanceSupplier<DependencyInstance> concurrent;
+  private InstanceSupplier<DependencyInstance> unsynchronized;
+  private com.google.inject.Provider<Dependency> guice;
+
+  @Setup
+  public void setup() {
+    container = new ContainerConfig().getContainer();
+    concurrent = new SingletonInstanceSupplier<>(new InjectedInstanceSupplier<>(DependencyInstance.class));
+    unsynchronized = new UnsynchronizedSingleton<>(new InjectedInstanceSupplier<>(DependencyInstance.class));
+    guice = Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(Dependency.class).to(DependencyInstance.class).in(new SingletonScope());
+      }
+    }).getProvider(Dependency.class);
+  }
+
+  @Benchmark
+  public Object concurrentSingleton() {
+    return concurrent.get(container);
+  }
+
+  @Benchmark
+  public Object unsynchronizedSingleton() {
+    return unsynchronized.get(container);
+  }
+
+  @Benchmark
+  public Object guiceSingleton() {
+    return guice.get();
+  }
+
+  /**
+   * 引入并发安全之前的实现，只作为对比
+   */
+  static class UnsynchronizedSingleton<T> implements InstanceSupplier<T> {
+
+    private final InstanceSupplier<T> supplier;
+    private T singleton;
+
+    UnsynchronizedSingleton(InstanceSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public T get(Container container) {
+      if (singleton == null) {
+        singleton = supplier.get(container);
+      }
+      return singleton;
+    }
+  }
+}
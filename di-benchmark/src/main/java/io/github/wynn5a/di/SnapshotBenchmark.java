@@ -0,0 +1,84 @@
+package io.github.wynn5a.di;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 新启动的 JVM 中第一次构建容器的耗时：cold 扫描所有组件并校验依赖图，snapshot 先读取快照再构建，validated 使用构建时写入的快照。
+ * 注入点按类缓存在整个 JVM 中，所以每次测量都在新的 fork 中只构建一次，快照也在另一个 JVM 中写好，不会提前扫描组件
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class SnapshotBenchmark {
+
+  private Path file;
+
+  @Setup
+  public void setup() throws IOException, InterruptedException {
+    file = Files.createTempFile("container", ".snapshot");
+    Process writer = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-cp",
+                                        System.getProperty("java.class.path"), SnapshotBenchmark.class.getName(),
+                                        file.toString()).inheritIO().start();
+    if (writer.waitFor() != 0) {
+      throw new IllegalStateException("Failed to write snapshot to " + file);
+    }
+  }
+
+  @TearDown
+  public void teardown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Object cold() {
+    return containerConfig().getContainer();
+  }
+
+  @Benchmark
+  public Object snapshot() {
+    ContainerSnapshot snapshot = ContainerSnapshot.read(file);
+    return containerConfig().getContainer(snapshot);
+  }
+
+  /**
+   * 构建时 validateContainer 校验 BenchmarkConfig 后写入 classpath 的快照，其中没有反射扫描的组件，只跳过依赖图校验
+   */
+  @Benchmark
+  public Object validated() {
+    ContainerSnapshot snapshot = ContainerSnapshot.validated();
+    return containerConfig().getContainer(snapshot);
+  }
+
+  /**
+   * 反射注入，生成的 $$Factory 不需要扫描注入点
+   */
+  private static ContainerConfig containerConfig() {
+    ContainerConfig config = new ContainerConfig();
+    config.injection(InjectionMode.REFLECTIVE);
+    return ContainerBenchmark.containerConfig(config);
+  }
+
+  public static void main(String[] args) {
+    ContainerSnapshot.write(containerConfig(), Path.of(args[0]));
+  }
+}
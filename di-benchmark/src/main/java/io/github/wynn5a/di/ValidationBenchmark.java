@@ -0,0 +1,116 @@
+package io.github.wynn5a.di;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * getContainer() 中依赖图校验的耗时随绑定数量的变化。每个绑定依赖下一个绑定以及更靠后的一个绑定，形成一条很长的链和大量汇入的边，
+ * 耗时应与 bindings 成线性关系。
+ * validateModules 模拟分 MODULES 次加入绑定、每次加入后都 getContainer()：全部重新校验时耗时约为 MODULES 倍，增量校验时与一次校验相当
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int bindings;
+
+  private static final int MODULES = 20;
+
+  private Map<InstanceType, InstanceSupplier<?>> graph;
+  private List<List<InstanceType>> modules;
+
+  @Setup
+  public void setup() {
+    graph = new HashMap<>();
+    for (int i = 0; i < bindings; i++) {
+      List<InstanceTypeRef> dependencies = new ArrayList<>();
+      if (i + 1 < bindings) {
+        dependencies.add(ref(i + 1));
+      }
+      int far = i + 2 + i % 97;
+      if (far < bindings) {
+        dependencies.add(ref(far));
+      }
+      graph.put(ref(i).instanceType(), new Node(dependencies));
+    }
+    modules = new ArrayList<>();
+    int size = (bindings + MODULES - 1) / MODULES;
+    for (int end = bindings; end > 0; end -= size) {
+      List<InstanceType> module = new ArrayList<>();
+      for (int i = Math.max(0, end - size); i < end; i++) {
+        module.add(ref(i).instanceType());
+      }
+      modules.add(module);
+    }
+  }
+
+  @Benchmark
+  public Object validate() {
+    DependencyGraph dependencyGraph = new DependencyGraph(graph);
+    dependencyGraph.validate();
+    return dependencyGraph;
+  }
+
+  /**
+   * 绑定只依赖编号更大的绑定，所以模块从后往前加入，每次加入后都是一个完整的依赖图
+   */
+  @Benchmark
+  public Object validateModules() {
+    Map<InstanceType, InstanceSupplier<?>> assembled = new HashMap<>();
+    Multibindings multibindings = new Multibindings(Map.of());
+    for (List<InstanceType> module : modules) {
+      module.forEach(type -> assembled.put(type, graph.get(type)));
+      new DependencyGraph(assembled, multibindings).validate();
+    }
+    return assembled;
+  }
+
+  @Benchmark
+  public Object validateModulesIncrementally() {
+    Map<InstanceType, InstanceSupplier<?>> assembled = new HashMap<>();
+    Multibindings multibindings = new Multibindings(Map.of());
+    IncrementalValidation validation = new IncrementalValidation();
+    for (List<InstanceType> module : modules) {
+      for (InstanceType type : module) {
+        assembled.put(type, graph.get(type));
+        validation.bound(type);
+      }
+      validation.validate(assembled, multibindings);
+    }
+    return assembled;
+  }
+
+  private static InstanceTypeRef<Dependency> ref(int index) {
+    return InstanceTypeRef.of(Dependency.class, new NamedQualifier(String.valueOf(index)));
+  }
+
+  private record Node(List<InstanceTypeRef> dependencies) implements InstanceSupplier<Object> {
+
+    @Override
+    public Object get(Container container) {
+      return null;
+    }
+  }
+}
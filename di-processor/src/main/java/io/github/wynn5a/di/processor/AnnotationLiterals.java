@@ -0,0 +1,159 @@
+package io.github.wynn5a.di.processor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * 在生成代码中实现 qualifier / scope 注解，equals 与 hashCode 遵循 {@link java.lang.annotation.Annotation} 的约定，因此和 JDK 的注解实例可以互相作为 key 使用。
+ * 只支持成员为基本类型、String、枚举和 Class 的注解
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class AnnotationLiterals {
+
+  private final Model model;
+  private final PackageElement from;
+  private final Map<TypeElement, String> literals = new LinkedHashMap<>();
+
+  AnnotationLiterals(Model model, PackageElement from) {
+    this.model = model;
+    this.from = from;
+  }
+
+  boolean isSupported(AnnotationMirror annotation) {
+    TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+    if (!model.isReferable(type, from)) {
+      return false;
+    }
+    for (ExecutableElement member : members(type)) {
+      TypeMirror returnType = member.getReturnType();
+      if (returnType.getKind().isPrimitive() || isString(returnType)) {
+        continue;
+      }
+      if (returnType instanceof DeclaredType declared) {
+        TypeElement element = (TypeElement) declared.asElement();
+        if (element.getKind() == ElementKind.ENUM && model.isReferable(element, from)) {
+          continue;
+        }
+        if (element.getQualifiedName().contentEquals("java.lang.Class")) {
+          AnnotationValue value = model.elements.getElementValuesWithDefaults(annotation).get(member);
+          if (model.isReferable((TypeMirror) value.getValue(), from)) {
+            continue;
+          }
+        }
+      }
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 创建注解实例的表达式
+   */
+  String instance(AnnotationMirror annotation) {
+    TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+    String literal = literals.computeIfAbsent(type, t -> "Literal" + literals.size());
+    Map<? extends ExecutableElement, ? extends AnnotationValue> values = model.elements.getElementValuesWithDefaults(
+        annotation);
+    List<String> arguments = members(type).stream().map(m -> value(m, values.get(m))).toList();
+    return "new " + literal + "(" + String.join(", ", arguments) + ")";
+  }
+
+  String declarations() {
+    StringBuilder source = new StringBuilder();
+    literals.forEach((type, literal) -> declare(source, type, literal));
+    return source.toString();
+  }
+
+  private void declare(StringBuilder source, TypeElement type, String literal) {
+    String name = type.getQualifiedName().toString();
+    List<ExecutableElement> members = members(type);
+    source.append("\n  private static final class ").append(literal).append(" implements ").append(name).append(" {\n");
+    for (ExecutableElement member : members) {
+      source.append("\n    private final ").append(member.getReturnType()).append(' ').append(member.getSimpleName())
+            .append(";\n");
+    }
+    source.append("\n    ").append(literal).append("(")
+          .append(String.join(", ", members.stream().map(m -> m.getReturnType() + " " + m.getSimpleName()).toList()))
+          .append(") {\n");
+    for (ExecutableElement member : members) {
+      source.append("      this.").append(member.getSimpleName()).append(" = ").append(member.getSimpleName())
+            .append(";\n");
+    }
+    source.append("    }\n");
+    for (ExecutableElement member : members) {
+      source.append("\n    @Override\n    public ").append(member.getReturnType()).append(' ')
+            .append(member.getSimpleName()).append("() {\n      return ").append(member.getSimpleName())
+            .append(";\n    }\n");
+    }
+    source.append("""
+
+                      @Override
+                      public java.lang.Class<? extends java.lang.annotation.Annotation> annotationType() {
+                        return %1$s.class;
+                      }
+
+                      @Override
+                      public boolean equals(java.lang.Object o) {
+                        if (this == o) {
+                          return true;
+                        }
+                        if (!(o instanceof %1$s)) {
+                          return false;
+                        }
+                        %1$s that = (%1$s) o;
+                        return %2$s;
+                      }
+
+                      @Override
+                      public int hashCode() {
+                        return %3$s;
+                      }
+
+                      @Override
+                      public java.lang.String toString() {
+                        return "@%1$s(" + %4$s + ")";
+                      }
+                    }
+                  """.formatted(name,
+        members.isEmpty() ? "true" : String.join("\n          && ", members.stream().map(
+            m -> "java.util.Objects.equals(this." + m.getSimpleName() + ", that." + m.getSimpleName() + "())").toList()),
+        members.isEmpty() ? "0" : String.join(" + ", members.stream().map(
+            m -> "((127 * \"" + m.getSimpleName() + "\".hashCode()) ^ java.util.Objects.hashCode(this." + m.getSimpleName()
+                + "))").toList()),
+        members.isEmpty() ? "\"\"" : String.join(" + \", \" + ", members.stream().map(
+            m -> "\"" + m.getSimpleName() + "=\" + this." + m.getSimpleName()).toList())));
+  }
+
+  private String value(ExecutableElement member, AnnotationValue value) {
+    Object constant = value.getValue();
+    if (constant instanceof VariableElement enumConstant) {
+      return model.erasure(member.getReturnType()) + "." + enumConstant.getSimpleName();
+    }
+    if (constant instanceof TypeMirror type) {
+      return model.erasure(type) + ".class";
+    }
+    return model.elements.getConstantExpression(constant);
+  }
+
+  private static List<ExecutableElement> members(TypeElement type) {
+    return ElementFilter.methodsIn(type.getEnclosedElements());
+  }
+
+  private static boolean isString(TypeMirror type) {
+    return type instanceof DeclaredType declared
+        && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals("java.lang.String");
+  }
+}
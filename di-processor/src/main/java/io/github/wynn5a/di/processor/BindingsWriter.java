@@ -0,0 +1,57 @@
+package io.github.wynn5a.di.processor;
+
+import io.github.wynn5a.di.processor.ConfigModel.Declaration;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.VariableElement;
+
+/**
+ * 生成 GeneratedBindings 的子类，按字段声明顺序逐条绑定，注解以生成的字面量传入
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class BindingsWriter {
+
+  private BindingsWriter() {
+  }
+
+  static String write(ConfigModel config, Model model) {
+    String type = config.type().getQualifiedName().toString();
+    String simpleName = model.simpleName(config.bindingsName(), config.pkg());
+    StringBuilder body = new StringBuilder();
+    for (Declaration declaration : config.declarations()) {
+      VariableElement field = declaration.field();
+      String value = (field.getModifiers().contains(Modifier.STATIC) ? type : "source") + "." + field.getSimpleName();
+      String export = model.erasure(declaration.export()) + ".class";
+      StringBuilder annotations = new StringBuilder();
+      declaration.annotations()
+                 .forEach(a -> annotations.append(", ").append(config.literals().instance(a)));
+      if (field.asType().getKind().isPrimitive()) {
+        body.append("    instance(containerConfig, ").append(export).append(", ").append(value).append(annotations)
+            .append(");\n");
+        continue;
+      }
+      body.append("    if (").append(value).append(" != null) {\n")
+          .append("      instance(containerConfig, ").append(export).append(", ").append(value).append(annotations)
+          .append(");\n")
+          .append("    } else {\n")
+          .append("      component(containerConfig, ").append(export).append(", ")
+          .append(model.erasure(field.asType())).append(".class").append(annotations).append(");\n")
+          .append("    }\n");
+    }
+    return """
+        %1$s@javax.annotation.processing.Generated("%2$s")
+        public final class %3$s extends io.github.wynn5a.di.GeneratedBindings {
+
+          public %3$s() {
+          }
+
+          @Override
+          protected void bind(io.github.wynn5a.di.ContainerConfig containerConfig, io.github.wynn5a.di.Config config) {
+            %4$s source = (%4$s) config;
+        %5$s  }
+        %6$s}
+        """.formatted(config.pkg().isUnnamed() ? "" : "package " + config.pkg().getQualifiedName() + ";\n\n",
+                      InjectProcessor.class.getName(), simpleName, type, body, config.literals().declarations());
+  }
+}
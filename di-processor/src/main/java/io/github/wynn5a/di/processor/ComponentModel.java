@@ -0,0 +1,187 @@
+package io.github.wynn5a.di.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * 与 InjectedInstanceSupplier 相同的注入点选择规则：字段从子类到父类，方法从父类到子类，被子类覆盖的方法只注入一次
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+record ComponentModel(TypeElement type, String factoryName, PackageElement pkg, InjectionPoint constructor,
+                      List<InjectionPoint> fields, List<InjectionPoint> methods, AnnotationLiterals literals) {
+
+  record InjectionPoint(Element element, List<Dependency> dependencies, boolean accessible) {
+
+  }
+
+  record Dependency(TypeMirror type, AnnotationMirror qualifier, boolean lazy) {
+
+  }
+
+  static Optional<ComponentModel> analyze(TypeElement type, Model model) {
+    PackageElement pkg = model.packageOf(type);
+    if (!model.isInstantiable(type) || !model.isReferable(type, pkg)) {
+      return Optional.empty();
+    }
+    AnnotationLiterals literals = new AnnotationLiterals(model, pkg);
+    Analyzer analyzer = new Analyzer(model, pkg, literals);
+    try {
+      return Optional.of(new ComponentModel(type, model.generatedName(type, "$$Factory"), pkg,
+                                            analyzer.constructor(type), analyzer.fields(type), analyzer.methods(type),
+                                            literals));
+    } catch (Unsupported e) {
+      return Optional.empty();
+    }
+  }
+
+  private static final class Unsupported extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    Unsupported() {
+      super(null, null, false, false);
+    }
+  }
+
+  private record Analyzer(Model model, PackageElement pkg, AnnotationLiterals literals) {
+
+    InjectionPoint constructor(TypeElement type) {
+      List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+      List<ExecutableElement> injected = constructors.stream().filter(model::isInjected).toList();
+      if (injected.size() > 1) {
+        throw new Unsupported();
+      }
+      ExecutableElement constructor = injected.stream().findFirst().orElseGet(
+          () -> constructors.stream().filter(c -> c.getParameters().isEmpty()).findFirst()
+                            .orElseThrow(Unsupported::new));
+      return executable(constructor);
+    }
+
+    List<InjectionPoint> fields(TypeElement type) {
+      List<InjectionPoint> fields = new ArrayList<>();
+      for (TypeElement current = type; current != null; current = model.superclass(current)) {
+        for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+          if (!model.isInjected(field)) {
+            continue;
+          }
+          if (field.getModifiers().contains(Modifier.FINAL) || field.getModifiers().contains(Modifier.STATIC)) {
+            throw new Unsupported();
+          }
+          declaringClassShouldBeReferable(field);
+          fields.add(new InjectionPoint(field, List.of(dependency(field)), model.isAccessible(field, pkg)));
+        }
+      }
+      return fields;
+    }
+
+    List<InjectionPoint> methods(TypeElement type) {
+      List<ExecutableElement> methods = new ArrayList<>();
+      for (TypeElement current = type; current != null; current = model.superclass(current)) {
+        for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+          if (model.isInjected(method) && !exists(methods, method) && !isOverridden(type, method, current)) {
+            methods.add(method);
+          }
+        }
+      }
+      Collections.reverse(methods);
+      return methods.stream().map(this::executable).toList();
+    }
+
+    private InjectionPoint executable(ExecutableElement executable) {
+      if (!executable.getTypeParameters().isEmpty() || executable.getModifiers().contains(Modifier.STATIC)) {
+        throw new Unsupported();
+      }
+      declaringClassShouldBeReferable(executable);
+      List<Dependency> dependencies = executable.getParameters().stream().map(this::dependency).toList();
+      return new InjectionPoint(executable, dependencies, model.isAccessible(executable, pkg));
+    }
+
+    private void declaringClassShouldBeReferable(Element member) {
+      if (!model.isReferable((TypeElement) member.getEnclosingElement(), pkg)) {
+        throw new Unsupported();
+      }
+    }
+
+    private Dependency dependency(VariableElement variable) {
+      List<AnnotationMirror> qualifiers = model.qualifiers(variable);
+      if (qualifiers.size() > 1 || qualifiers.stream().anyMatch(q -> !literals.isSupported(q))) {
+        throw new Unsupported();
+      }
+      TypeMirror type = variable.asType();
+      if (!isSupported(type)) {
+        throw new Unsupported();
+      }
+      boolean lazy = model.isLazy(variable);
+      if (lazy && !isLazySupported(type)) {
+        throw new Unsupported();
+      }
+      return new Dependency(type, qualifiers.stream().findFirst().orElse(null), lazy);
+    }
+
+    /**
+     * Lazy 依赖由 java.lang.reflect.Proxy 实现，只能是非泛型的接口，其他类型交给运行时报错
+     */
+    private boolean isLazySupported(TypeMirror type) {
+      return type instanceof DeclaredType declared && declared.asElement().getKind() == ElementKind.INTERFACE
+          && declared.getTypeArguments().isEmpty();
+    }
+
+    /**
+     * InstanceTypeRef 只能表示类、数组，以及最后一个类型参数为类的参数化类型，如 Provider&lt;T&gt; 与 Map&lt;String, T&gt;
+     */
+    private boolean isSupported(TypeMirror type) {
+      if (type.getKind().isPrimitive()) {
+        return true;
+      }
+      if (type instanceof ArrayType array) {
+        return array.getComponentType().getKind() != TypeKind.TYPEVAR && model.isReferable(array, pkg);
+      }
+      if (!(type instanceof DeclaredType declared) || !model.isReferable(type, pkg)) {
+        return false;
+      }
+      List<? extends TypeMirror> arguments = declared.getTypeArguments();
+      return arguments.isEmpty() || (arguments.get(arguments.size() - 1) instanceof DeclaredType argument
+          && argument.getTypeArguments().isEmpty() && model.isReferable(argument, pkg));
+    }
+
+    private boolean exists(List<ExecutableElement> methods, ExecutableElement method) {
+      return methods.stream().anyMatch(m -> sameSignature(m, method));
+    }
+
+    private boolean isOverridden(TypeElement type, ExecutableElement method, TypeElement current) {
+      return current != type && ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                                             .anyMatch(m -> sameSignature(m, method));
+    }
+
+    private boolean sameSignature(ExecutableElement one, ExecutableElement another) {
+      if (!one.getSimpleName().contentEquals(another.getSimpleName())
+          || one.getParameters().size() != another.getParameters().size()) {
+        return false;
+      }
+      for (int i = 0; i < one.getParameters().size(); i++) {
+        if (!model.types.isSameType(model.types.erasure(one.getParameters().get(i).asType()),
+                                    model.types.erasure(another.getParameters().get(i).asType()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.wynn5a.di.processor;
+
+import static io.github.wynn5a.di.processor.InjectProcessor.EXPORT;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * 与 ContainerConfig.DSL 相同的绑定规则：Config 自身声明的每个字段都是一条绑定，字段有值时绑定实例，否则绑定字段类型的组件
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+record ConfigModel(TypeElement type, String bindingsName, PackageElement pkg, List<Declaration> declarations,
+                   AnnotationLiterals literals) {
+
+  record Declaration(VariableElement field, TypeMirror export, List<AnnotationMirror> annotations) {
+
+  }
+
+  List<TypeElement> components() {
+    return declarations.stream().map(d -> d.field().asType()).filter(t -> t instanceof DeclaredType)
+                       .map(t -> (TypeElement) ((DeclaredType) t).asElement()).toList();
+  }
+
+  static Optional<ConfigModel> analyze(TypeElement type, Model model) {
+    PackageElement pkg = model.packageOf(type);
+    if (!model.isReferable(type, pkg)) {
+      return Optional.empty();
+    }
+    AnnotationLiterals literals = new AnnotationLiterals(model, pkg);
+    List<Declaration> declarations = new ArrayList<>();
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getModifiers().contains(Modifier.PRIVATE) || !model.isReferable(field.asType(), pkg)) {
+        return Optional.empty();
+      }
+      TypeMirror export = model.annotation(field, EXPORT).map(ConfigModel::exportOf).orElse(field.asType());
+      if (!model.isReferable(export, pkg)) {
+        return Optional.empty();
+      }
+      List<AnnotationMirror> annotations = new ArrayList<>();
+      for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+        if (!isVisibleAtRuntime(annotation) || isExport(annotation)) {
+          continue;
+        }
+        if (!literals.isSupported(annotation)) {
+          return Optional.empty();
+        }
+        annotations.add(annotation);
+      }
+      declarations.add(new Declaration(field, export, annotations));
+    }
+    return Optional.of(new ConfigModel(type, model.generatedName(type, "$$Bindings"), pkg, declarations, literals));
+  }
+
+  private static TypeMirror exportOf(AnnotationMirror export) {
+    return export.getElementValues().entrySet().stream()
+                 .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
+                 .map(e -> (TypeMirror) ((AnnotationValue) e.getValue()).getValue()).findFirst().orElseThrow();
+  }
+
+  private static boolean isExport(AnnotationMirror annotation) {
+    return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(EXPORT);
+  }
+
+  /**
+   * DSL 通过 Field.getAnnotations() 读取注解，只能看到 RUNTIME 级别的注解
+   */
+  private static boolean isVisibleAtRuntime(AnnotationMirror annotation) {
+    Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+    return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+  }
+}
@@ -0,0 +1,167 @@
+package io.github.wynn5a.di.processor;
+
+import io.github.wynn5a.di.processor.ComponentModel.Dependency;
+import io.github.wynn5a.di.processor.ComponentModel.InjectionPoint;
+import java.util.ArrayList;
+import java.util.List;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 生成 GeneratedInstanceSupplier 的子类。可以直接访问的成员直接调用，私有成员或其他包中非公开的成员在类初始化时按名称查找一次 MethodHandle
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class FactoryWriter {
+
+  private final ComponentModel component;
+  private final Model model;
+  private final String type;
+  private final List<String> references = new ArrayList<>();
+  private final List<String> handles = new ArrayList<>();
+  private final StringBuilder body = new StringBuilder();
+
+  private FactoryWriter(ComponentModel component, Model model) {
+    this.component = component;
+    this.model = model;
+    this.type = component.type().getQualifiedName().toString();
+  }
+
+  static String write(ComponentModel component, Model model) {
+    return new FactoryWriter(component, model).write();
+  }
+
+  private String write() {
+    construct(component.constructor());
+    component.fields().forEach(this::inject);
+    component.methods().forEach(this::invoke);
+
+    String simpleName = model.simpleName(component.factoryName(), component.pkg());
+    StringBuilder source = new StringBuilder();
+    if (!component.pkg().isUnnamed()) {
+      source.append("package ").append(component.pkg().getQualifiedName()).append(";\n\n");
+    }
+    source.append("@javax.annotation.processing.Generated(\"").append(InjectProcessor.class.getName()).append("\")\n");
+    source.append("public final class ").append(simpleName).append(" extends io.github.wynn5a.di.GeneratedInstanceSupplier<")
+          .append(type).append("> {\n");
+    if (!handles.isEmpty()) {
+      for (int i = 0; i < handles.size(); i++) {
+        source.append("\n  private static final java.lang.invoke.MethodHandle HANDLE").append(i).append(";");
+      }
+      source.append("\n\n  static {\n    try {\n");
+      for (int i = 0; i < handles.size(); i++) {
+        source.append("      HANDLE").append(i).append(" = ").append(handles.get(i)).append(";\n");
+      }
+      source.append("""
+                        } catch (java.lang.ReflectiveOperationException e) {
+                          throw new java.lang.ExceptionInInitializerError(e);
+                        }
+                      }
+                    """);
+    }
+    source.append("\n  public ").append(simpleName).append("() {\n    super(");
+    source.append(String.join(",", references.stream().map(r -> "\n        " + r).toList()));
+    source.append(");\n  }\n");
+    source.append("""
+
+                    @Override
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    protected %1$s create(io.github.wynn5a.di.Container container) throws java.lang.Throwable {
+                  %2$s    return instance;
+                    }
+                  """.formatted(type, body));
+    source.append(component.literals().declarations());
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private void construct(InjectionPoint constructor) {
+    ExecutableElement element = (ExecutableElement) constructor.element();
+    String arguments = arguments(constructor);
+    if (constructor.accessible()) {
+      body.append("    ").append(type).append(" instance = new ").append(type).append("(").append(arguments)
+          .append(");\n");
+    } else {
+      String handle = handle("findConstructor(" + type + ".class, " + methodType("void", element) + ")", element);
+      body.append("    ").append(type).append(" instance = (").append(type).append(") ").append(handle)
+          .append(".invoke(").append(arguments).append(");\n");
+    }
+  }
+
+  private void inject(InjectionPoint field) {
+    VariableElement element = (VariableElement) field.element();
+    String declaring = declaring(element);
+    String value = arguments(field);
+    if (field.accessible()) {
+      body.append("    ((").append(declaring).append(") instance).").append(element.getSimpleName()).append(" = ")
+          .append(value).append(";\n");
+    } else {
+      String handle = handle("findSetter(" + declaring + ".class, \"" + element.getSimpleName() + "\", "
+                                 + model.erasure(element.asType()) + ".class)", element);
+      body.append("    ").append(handle).append(".invoke((").append(declaring).append(") instance, ").append(value)
+          .append(");\n");
+    }
+  }
+
+  private void invoke(InjectionPoint method) {
+    ExecutableElement element = (ExecutableElement) method.element();
+    String declaring = declaring(element);
+    String arguments = arguments(method);
+    if (method.accessible()) {
+      body.append("    ((").append(declaring).append(") instance).").append(element.getSimpleName()).append("(")
+          .append(arguments).append(");\n");
+    } else {
+      String handle = handle("findVirtual(" + declaring + ".class, \"" + element.getSimpleName() + "\", "
+                                 + methodType(model.erasure(element.getReturnType()), element) + ")", element);
+      body.append("    ").append(handle).append(".invoke((").append(declaring).append(") instance")
+          .append(arguments.isEmpty() ? "" : ", " + arguments).append(");\n");
+    }
+  }
+
+  private String arguments(InjectionPoint point) {
+    List<String> arguments = new ArrayList<>();
+    for (Dependency dependency : point.dependencies()) {
+      arguments.add("(" + model.boxed(dependency.type()) + ") dependency(" + references.size() + ", container)");
+      references.add(reference(dependency));
+    }
+    return String.join(", ", arguments);
+  }
+
+  private String reference(Dependency dependency) {
+    String qualifier = dependency.qualifier() == null ? "null" : component.literals().instance(dependency.qualifier());
+    TypeMirror type = dependency.type();
+    if (dependency.lazy()) {
+      return "io.github.wynn5a.di.InstanceTypeRef.of(io.github.wynn5a.di.Lazy.class, " + model.erasure(type)
+          + ".class, " + qualifier + ")";
+    }
+    if (type instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()) {
+      List<? extends TypeMirror> arguments = declared.getTypeArguments();
+      return "io.github.wynn5a.di.InstanceTypeRef.of(" + model.erasure(type) + ".class, "
+          + model.erasure(arguments.get(arguments.size() - 1)) + ".class, " + qualifier + ")";
+    }
+    return "io.github.wynn5a.di.InstanceTypeRef.of(" + model.erasure(type) + ".class, " + qualifier + ")";
+  }
+
+  private String handle(String find, javax.lang.model.element.Element member) {
+    String declaring = member.getKind() == ElementKind.CONSTRUCTOR ? type : declaring(member);
+    handles.add("java.lang.invoke.MethodHandles.privateLookupIn(" + declaring
+                    + ".class, java.lang.invoke.MethodHandles.lookup())." + find);
+    return "HANDLE" + (handles.size() - 1);
+  }
+
+  private String methodType(String returnType, ExecutableElement executable) {
+    String parameters = String.join(", ", executable.getParameters().stream()
+                                                    .map(p -> model.erasure(p.asType()) + ".class").toList());
+    return "java.lang.invoke.MethodType.methodType(" + returnType + ".class, new java.lang.Class<?>[]{" + parameters
+        + "})";
+  }
+
+  private static String declaring(javax.lang.model.element.Element member) {
+    return ((TypeElement) member.getEnclosingElement()).getQualifiedName().toString();
+  }
+}
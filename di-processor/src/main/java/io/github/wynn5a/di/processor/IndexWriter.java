@@ -0,0 +1,80 @@
+package io.github.wynn5a.di.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 组件索引 {@value #RESOURCE}，每行一个生成了工厂的组件，以 tab 分隔：组件、工厂、scope 注解、绑定的类型（组件自身及其直接实现的接口）、qualifier。
+ * qualifier 为空表示没有，{@code @jakarta.inject.Named:<value>} 可以在运行时直接构造，{@code *} 表示需要加载组件读取类上的注解。
+ * 类名都是二进制名，运行时不需要加载组件就可以注册
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class IndexWriter {
+
+  static final String RESOURCE = "META-INF/io.github.wynn5a.di/components";
+  private static final String NAMED = "jakarta.inject.Named";
+
+  private final Map<String, String> lines = new TreeMap<>();
+
+  void add(ComponentModel component, Model model) {
+    TypeElement type = component.type();
+    List<String> bound = new ArrayList<>();
+    bound.add(model.elements.getBinaryName(type).toString());
+    for (TypeMirror implemented : type.getInterfaces()) {
+      bound.add(model.elements.getBinaryName((TypeElement) ((DeclaredType) implemented).asElement()).toString());
+    }
+    String scope = type.getAnnotationMirrors().stream().filter(model::isScope).findFirst()
+                       .map(a -> binaryName(a, model)).orElse("");
+    lines.put(bound.get(0), String.join("\t", bound.get(0), component.factoryName(), scope, String.join(",", bound),
+                                        qualifier(type, model)));
+  }
+
+  boolean isEmpty() {
+    return lines.isEmpty();
+  }
+
+  String write() {
+    StringBuilder index = new StringBuilder();
+    lines.values().forEach(line -> index.append(line).append('\n'));
+    return index.toString();
+  }
+
+  private static String qualifier(TypeElement type, Model model) {
+    List<AnnotationMirror> qualifiers = model.qualifiers(type);
+    if (qualifiers.isEmpty()) {
+      return "";
+    }
+    if (qualifiers.size() == 1 && binaryName(qualifiers.get(0), model).equals(NAMED)) {
+      Optional<String> value = named(qualifiers.get(0), model);
+      if (value.isPresent() && value.get().chars().noneMatch(c -> c == '\t' || c == '\n' || c == '\r')) {
+        return "@" + NAMED + ":" + value.get();
+      }
+    }
+    return "*";
+  }
+
+  private static Optional<String> named(AnnotationMirror named, Model model) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : model.elements.getElementValuesWithDefaults(named).entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("value")) {
+        return Optional.of((String) entry.getValue().getValue());
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static String binaryName(AnnotationMirror annotation, Model model) {
+    return model.elements.getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.wynn5a.di.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+
+/**
+ * 为使用 jakarta.inject 注解的组件生成 {@code $$Factory} 并记录到组件索引中，为 Config 的具名实现类生成 {@code $$Bindings}。
+ * 无法用生成代码表达的组件（抽象类、多个 Inject 构造函数、泛型注入点等）不生成任何代码，运行时仍由反射处理并给出同样的错误
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@SupportedAnnotationTypes("*")
+public class InjectProcessor extends AbstractProcessor {
+
+  static final String INJECT = "jakarta.inject.Inject";
+  static final String QUALIFIER = "jakarta.inject.Qualifier";
+  static final String SCOPE = "jakarta.inject.Scope";
+  static final String CONFIG = "io.github.wynn5a.di.Config";
+  static final String EXPORT = "io.github.wynn5a.di.Config.Export";
+  static final String LAZY = "io.github.wynn5a.di.Lazy";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  private final IndexWriter index = new IndexWriter();
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+      return false;
+    }
+    Set<TypeElement> types = new LinkedHashSet<>();
+    for (Element root : roundEnv.getRootElements()) {
+      collect(root, types);
+    }
+    Model model = new Model(processingEnv);
+    Set<TypeElement> components = new LinkedHashSet<>();
+    for (TypeElement type : types) {
+      if (model.isConfig(type)) {
+        ConfigModel.analyze(type, model).ifPresent(config -> {
+          write(config.bindingsName(), BindingsWriter.write(config, model), type);
+          config.components().stream().filter(types::contains).forEach(components::add);
+        });
+      } else if (model.isComponent(type)) {
+        components.add(type);
+      }
+    }
+    for (TypeElement component : components) {
+      ComponentModel.analyze(component, model).ifPresent(c -> {
+        write(c.factoryName(), FactoryWriter.write(c, model), component);
+        index.add(c, model);
+      });
+    }
+    return false;
+  }
+
+  private static void collect(Element element, Set<TypeElement> types) {
+    if (element.getKind() == ElementKind.CLASS) {
+      types.add((TypeElement) element);
+    }
+    if (element instanceof TypeElement type) {
+      for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+        collect(nested, types);
+      }
+    }
+  }
+
+  private void writeIndex() {
+    if (index.isEmpty()) {
+      return;
+    }
+    try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", IndexWriter.RESOURCE)
+                                      .openWriter()) {
+      writer.write(index.write());
+    } catch (IOException e) {
+      processingEnv.getMessager()
+                   .printMessage(Kind.ERROR, "Failed to write " + IndexWriter.RESOURCE + ": " + e.getMessage());
+    }
+  }
+
+  private void write(String name, String source, Element origin) {
+    try (Writer writer = processingEnv.getFiler().createSourceFile(name, origin).openWriter()) {
+      writer.write(source);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write " + name + ": " + e.getMessage(), origin);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package io.github.wynn5a.di.processor;
+
+import static io.github.wynn5a.di.processor.InjectProcessor.CONFIG;
+import static io.github.wynn5a.di.processor.InjectProcessor.INJECT;
+import static io.github.wynn5a.di.processor.InjectProcessor.LAZY;
+import static io.github.wynn5a.di.processor.InjectProcessor.QUALIFIER;
+import static io.github.wynn5a.di.processor.InjectProcessor.SCOPE;
+
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * 注解判断、可访问性判断以及类型在生成代码中的写法
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class Model {
+
+  final Elements elements;
+  final Types types;
+  private final TypeElement config;
+
+  Model(ProcessingEnvironment env) {
+    this.elements = env.getElementUtils();
+    this.types = env.getTypeUtils();
+    this.config = elements.getTypeElement(CONFIG);
+  }
+
+  boolean isConfig(TypeElement type) {
+    return config != null && types.isAssignable(types.erasure(type.asType()), types.erasure(config.asType()));
+  }
+
+  /**
+   * 自身或父类上有 Inject 标注的成员，或者类上有 Scope / Qualifier 标注
+   */
+  boolean isComponent(TypeElement type) {
+    if (type.getAnnotationMirrors().stream().anyMatch(a -> isScope(a) || isQualifier(a))) {
+      return true;
+    }
+    for (TypeElement current = type; current != null; current = superclass(current)) {
+      if (current.getEnclosedElements().stream().anyMatch(this::isInjected)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  boolean isInjected(Element element) {
+    return has(element, INJECT);
+  }
+
+  boolean isLazy(Element element) {
+    return has(element, LAZY);
+  }
+
+  boolean isQualifier(AnnotationMirror annotation) {
+    return has(annotation.getAnnotationType().asElement(), QUALIFIER);
+  }
+
+  boolean isScope(AnnotationMirror annotation) {
+    return has(annotation.getAnnotationType().asElement(), SCOPE);
+  }
+
+  Optional<AnnotationMirror> annotation(Element element, String name) {
+    return element.getAnnotationMirrors().stream().filter(a -> nameOf(a).equals(name)).map(a -> (AnnotationMirror) a)
+                  .findFirst();
+  }
+
+  List<AnnotationMirror> qualifiers(Element element) {
+    return element.getAnnotationMirrors().stream().filter(this::isQualifier).map(a -> (AnnotationMirror) a).toList();
+  }
+
+  private static boolean has(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream().anyMatch(a -> nameOf(a).equals(annotation));
+  }
+
+  private static String nameOf(AnnotationMirror annotation) {
+    return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+  }
+
+  /**
+   * 能否在 from 包中的生成代码里以规范名引用该类型
+   */
+  boolean isReferable(TypeElement type, PackageElement from) {
+    for (Element current = type; current instanceof TypeElement t; current = t.getEnclosingElement()) {
+      NestingKind nesting = t.getNestingKind();
+      if (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER) {
+        return false;
+      }
+      if (t.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      if (!t.getModifiers().contains(Modifier.PUBLIC) && !packageOf(t).equals(from)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  boolean isReferable(TypeMirror type, PackageElement from) {
+    if (type.getKind().isPrimitive()) {
+      return true;
+    }
+    if (type instanceof ArrayType array) {
+      return isReferable(array.getComponentType(), from);
+    }
+    return type instanceof DeclaredType declared && isReferable((TypeElement) declared.asElement(), from);
+  }
+
+  /**
+   * 成员能否在 from 包中的生成代码里直接访问，否则需要通过 MethodHandle
+   */
+  boolean isAccessible(Element member, PackageElement from) {
+    if (member.getModifiers().contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    return !member.getModifiers().contains(Modifier.PRIVATE) && packageOf(member).equals(from);
+  }
+
+  boolean isInstantiable(TypeElement type) {
+    return type.getKind() == ElementKind.CLASS
+        && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && type.getTypeParameters().isEmpty()
+        && (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.STATIC));
+  }
+
+  PackageElement packageOf(Element element) {
+    return elements.getPackageOf(element);
+  }
+
+  /**
+   * 生成类的全限定名，以组件的二进制名为前缀，与运行时 Class.getName() + 后缀一致
+   */
+  String generatedName(TypeElement type, String suffix) {
+    return elements.getBinaryName(type) + suffix;
+  }
+
+  String simpleName(String qualifiedName, PackageElement pkg) {
+    return pkg.isUnnamed() ? qualifiedName : qualifiedName.substring(pkg.getQualifiedName().length() + 1);
+  }
+
+  /**
+   * 擦除后的类型名，用于类型转换与类字面量
+   */
+  String erasure(TypeMirror type) {
+    return types.erasure(type).toString();
+  }
+
+  String boxed(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+    }
+    return erasure(type);
+  }
+
+}
@@ -0,0 +1,40 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Qualifier;
+import jakarta.inject.Scope;
+import java.lang.annotation.Annotation;
+
+/**
+ * 注解类型是否被 Qualifier / Scope 标注，按注解类型缓存，所有 ContainerConfig 共享
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+record AnnotationKind(boolean qualifier, boolean scope) {
+
+  private static final ClassValue<AnnotationKind> KINDS = new ClassValue<>() {
+    @Override
+    protected AnnotationKind computeValue(Class<?> type) {
+      return new AnnotationKind(type.isAnnotationPresent(Qualifier.class), type.isAnnotationPresent(Scope.class));
+    }
+  };
+
+  static AnnotationKind of(Annotation annotation) {
+    return KINDS.get(annotation.annotationType());
+  }
+
+  static boolean isQualifier(Annotation annotation) {
+    return of(annotation).qualifier();
+  }
+
+  static boolean isScope(Annotation annotation) {
+    return of(annotation).scope();
+  }
+
+  /**
+   * meta 只能是 Qualifier 或 Scope
+   */
+  boolean is(Class<? extends Annotation> meta) {
+    return meta == Qualifier.class ? qualifier : meta == Scope.class && scope;
+  }
+}
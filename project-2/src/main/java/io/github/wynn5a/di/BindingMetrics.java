@@ -0,0 +1,43 @@
+package io.github.wynn5a.di;
+
+/**
+ * 一个绑定在某一时刻的统计。histogram 是创建耗时的分桶计数，第 i 个桶的上界为 2^(i+11) 纳秒
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public record BindingMetrics(long requests, long creations, long inFlight, long creationNanos, long[] histogram) {
+
+  /**
+   * 没有创建新实例的获取次数，prototype 总是 0
+   */
+  public long hits() {
+    return Math.max(0, requests - creations);
+  }
+
+  public long meanCreationNanos() {
+    return creations == 0 ? 0 : creationNanos / creations;
+  }
+
+  /**
+   * 创建耗时的 quantile 分位数，取所在桶的上界，没有创建过时为 0
+   */
+  public long creationNanos(double quantile) {
+    long total = 0;
+    for (long count : histogram) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(quantile * total);
+    long seen = 0;
+    for (int i = 0; i < histogram.length; i++) {
+      seen += histogram[i];
+      if (seen >= rank) {
+        return 1L << (i + 11);
+      }
+    }
+    return 1L << (histogram.length + 10);
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.wynn5a.di;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * ConfiguredContainer 中按 InstanceType 查找绑定的表。创建时把相等的 qualifier 归并为同一个整数编号，每个绑定分配一个连续的下标，
+ * 类型和 qualifier 编号放在开放寻址的数组中，探测时只比较 Class 的引用和 int，不再调用注解的 hashCode / equals（JDK 生成的注解代理会反射遍历所有成员）。
+ * 查找的结果缓存在 InstanceTypeRef 上，同一个 ref 再次查找时只读一个字段；qualifier 与绑定时是同一个对象时按引用找到编号，不同的对象才按 equals 查找一次
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class BindingTable<V> {
+
+  private static final AtomicInteger TABLES = new AtomicInteger();
+
+  private final int id = TABLES.incrementAndGet();
+  private final Map<Annotation, Integer> identities = new IdentityHashMap<>();
+  private final Map<Annotation, Integer> qualifiers = new HashMap<>();
+  private final Class<?>[] types;
+  private final int[] qualifierIds;
+  private final int[] slots;
+  private final int mask;
+  private final Object[] values;
+
+  <S> BindingTable(Map<InstanceType, S> bindings, Function<S, V> value) {
+    int capacity = Integer.highestOneBit(Math.max(2, bindings.size() * 2 - 1)) << 1;
+    types = new Class<?>[capacity];
+    qualifierIds = new int[capacity];
+    slots = new int[capacity];
+    mask = capacity - 1;
+    values = new Object[bindings.size()];
+    int slot = 0;
+    for (Map.Entry<InstanceType, S> binding : bindings.entrySet()) {
+      InstanceType type = binding.getKey();
+      int qualifier = intern(type.qualifier());
+      int i = hash(type.type(), qualifier) & mask;
+      while (types[i] != null) {
+        i = (i + 1) & mask;
+      }
+      types[i] = type.type();
+      qualifierIds[i] = qualifier;
+      slots[i] = slot;
+      values[slot++] = value.apply(binding.getValue());
+    }
+  }
+
+  /**
+   * qualifier 编号从 1 开始，0 表示没有 qualifier
+   */
+  private int intern(Annotation qualifier) {
+    if (qualifier == null) {
+      return 0;
+    }
+    Integer id = qualifiers.computeIfAbsent(qualifier, q -> qualifiers.size() + 1);
+    identities.putIfAbsent(qualifier, id);
+    return id;
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(InstanceTypeRef<?> instanceTypeRef) {
+    int slot = slot(instanceTypeRef);
+    return slot < 0 ? null : (V) values[slot];
+  }
+
+  private int slot(InstanceTypeRef<?> instanceTypeRef) {
+    InstanceTypeRef.Slot cached = instanceTypeRef.slot;
+    if (cached != null && cached.table() == id) {
+      return cached.index();
+    }
+    int slot = find(instanceTypeRef.instanceType());
+    instanceTypeRef.slot = new InstanceTypeRef.Slot(id, slot);
+    return slot;
+  }
+
+  private int find(InstanceType type) {
+    int qualifier = qualifierId(type.qualifier());
+    if (qualifier < 0) {
+      return -1;
+    }
+    for (int i = hash(type.type(), qualifier) & mask; types[i] != null; i = (i + 1) & mask) {
+      if (types[i] == type.type() && qualifierIds[i] == qualifier) {
+        return slots[i];
+      }
+    }
+    return -1;
+  }
+
+  private int qualifierId(Annotation qualifier) {
+    if (qualifier == null) {
+      return 0;
+    }
+    Integer id = identities.get(qualifier);
+    if (id == null) {
+      id = qualifiers.get(qualifier);
+    }
+    return id == null ? -1 : id;
+  }
+
+  private static int hash(Class<?> type, int qualifier) {
+    int h = type.hashCode() * 31 + qualifier;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,15 @@
+package io.github.wynn5a.di;
+
+/**
+ * {@link CachingScope} 的统计，evictions 为被 LRU 淘汰的实例数，以及过期或被 GC 回收后在下一次获取时才发现的实例数
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public record CacheStats(long hits, long misses, long evictions) {
+
+  public double hitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+}
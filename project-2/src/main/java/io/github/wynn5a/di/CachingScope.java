@@ -0,0 +1,61 @@
+package io.github.wynn5a.di;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 缓存组件实例但不永久持有的 scope 的基类，通过 {@link ContainerConfig#scope(Class, ScopeSupplier)} 注册到自定义的 scope 注解上。
+ * 命中时只有 volatile 读，不加锁；未命中时与 singleton 一样使用每个绑定自己的锁，同一个绑定只创建一次。
+ * 命中、未命中和淘汰次数使用 LongAdder 统计，由使用同一个 scope 实例的所有绑定共享
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public abstract class CachingScope implements ScopeSupplier {
+
+  final LongAdder hits = new LongAdder();
+  final LongAdder misses = new LongAdder();
+  final LongAdder evictions = new LongAdder();
+
+  CachingScope() {
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * 一个绑定的缓存，子类实现 get：命中时调用 hit，未命中时在 lock 中再次检查后调用 create
+   */
+  abstract class Cached<T> implements InstanceSupplier<T> {
+
+    final ReentrantLock lock = new ReentrantLock();
+    private final InstanceSupplier<T> supplier;
+
+    Cached(InstanceSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    T hit(T instance) {
+      hits.increment();
+      return instance;
+    }
+
+    T create(Container container) {
+      misses.increment();
+      return supplier.get(container);
+    }
+
+    @Override
+    public List<InstanceTypeRef> dependencies() {
+      return supplier.dependencies();
+    }
+
+    @Override
+    public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      supplier.link(linker);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package io.github.wynn5a.di;
+
+import io.github.wynn5a.di.exception.OutOfScopeException;
+
+/**
+ * {@link ContainerConfig#childBinding} 声明的绑定，只在子容器的 {@link Overlay} 中提供实例。
+ * 校验时与其他绑定一样满足依赖，但不属于任何 Set / Map；在没有叠加它的容器中获取时抛出 OutOfScopeException
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+record ChildBinding<T>(InstanceType instanceType) implements InstanceSupplier<T> {
+
+  @Override
+  public T get(Container container) {
+    throw new OutOfScopeException(instanceType.key() + " is only bound in child containers");
+  }
+
+  static boolean isChildBinding(InstanceSupplier<?> supplier) {
+    return ContainerMetrics.scoped(supplier) instanceof ChildBinding<?>;
+  }
+}
@@ -0,0 +1,120 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Provider;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 先在自己和上层子容器叠加的实例中查找，找不到时使用根容器的绑定。每次获取都创建的组件以子容器创建，它们的依赖（包括 {@link ContainerConfig#childBinding}
+ * 声明的类型）同样到子容器中查找；singleton 等缓存实例的绑定、Pool 以及 Set / Map 总是交给父容器，缓存的实例不会持有某个子容器叠加的实例。
+ * 与根容器一样，每个叠加的实例和 prototype 绑定在第一次以 Provider / Supplier 获取时生成一个 Handle，之后总是返回它
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+record ChildContainer(Container parent, Map<InstanceType, Object> instances,
+                      Map<InstanceType, ConfiguredContainer.Handle<?>> handles) implements Container {
+
+  ChildContainer(Container parent, Overlay overlay) {
+    this(parent, Map.copyOf(overlay.instances), new ConcurrentHashMap<>());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Optional<T> get(InstanceTypeRef<T> instanceTypeRef) {
+    if (Multibindings.isMultibinding(instanceTypeRef)) {
+      return parent.get(instanceTypeRef);
+    }
+    Object instance = instance(instanceTypeRef.instanceType());
+    if (instance != null) {
+      return overlay(instanceTypeRef, instance);
+    }
+    InstanceSupplier<?> prototype = prototype(instanceTypeRef);
+    if (prototype == null) {
+      return parent.get(instanceTypeRef);
+    }
+    if (!instanceTypeRef.isContainerType()) {
+      return Optional.ofNullable((T) prototype.get(this));
+    }
+    if (Supplier.class == instanceTypeRef.getContainerType() || Provider.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) handle(instanceTypeRef.instanceType(), prototype));
+    }
+    if (CompletableFuture.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) root().async(prototype, this));
+    }
+    if (Lazy.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) LazyProxy.supplier(instanceTypeRef.instanceType().type(), prototype).get(this));
+    }
+    return parent.get(instanceTypeRef);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Optional<T> overlay(InstanceTypeRef<T> instanceTypeRef, Object instance) {
+    if (!instanceTypeRef.isContainerType() || Lazy.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) instance);
+    }
+    if (Supplier.class == instanceTypeRef.getContainerType() || Provider.class == instanceTypeRef.getContainerType()) {
+      ConfiguredContainer.Handle<?> handle = handles.get(instanceTypeRef.instanceType());
+      return Optional.of((T) (handle != null ? handle : handle(instanceTypeRef.instanceType(), c -> instance)));
+    }
+    if (CompletableFuture.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) CompletableFuture.completedFuture(instance));
+    }
+    if (Pool.class == instanceTypeRef.getContainerType()) {
+      return Optional.of((T) (Pool<Object>) () -> new Lease<>(instance, null));
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> getAsync(InstanceTypeRef<T> instanceTypeRef) {
+    if (Multibindings.isMultibinding(instanceTypeRef)) {
+      return parent.getAsync(instanceTypeRef);
+    }
+    if (instance(instanceTypeRef.instanceType()) != null || instanceTypeRef.isContainerType()) {
+      return Container.super.getAsync(instanceTypeRef);
+    }
+    InstanceSupplier<?> prototype = prototype(instanceTypeRef);
+    return prototype == null ? parent.getAsync(instanceTypeRef) : (CompletableFuture<T>) root().async(prototype, this);
+  }
+
+  /**
+   * 子容器叠加的实例不会改变，同一个类型在这个子容器中要么是叠加的实例，要么是 prototype 绑定，以类型为 key 即可
+   */
+  private ConfiguredContainer.Handle<?> handle(InstanceType instanceType, InstanceSupplier<?> supplier) {
+    ConfiguredContainer.Handle<?> handle = handles.get(instanceType);
+    return handle != null ? handle
+        : handles.computeIfAbsent(instanceType, type -> new ConfiguredContainer.Handle<>(supplier, this));
+  }
+
+  boolean overlays(InstanceType instanceType) {
+    return instance(instanceType) != null;
+  }
+
+  /**
+   * 离得最近的子容器叠加的实例
+   */
+  private Object instance(InstanceType instanceType) {
+    Object instance = instances.get(instanceType);
+    return instance == null && parent instanceof ChildContainer child ? child.instance(instanceType) : instance;
+  }
+
+  /**
+   * 根容器中每次获取都创建实例的绑定，父容器不是 getContainer() 返回的容器或者绑定会缓存实例时为 null
+   */
+  private InstanceSupplier<?> prototype(InstanceTypeRef<?> instanceTypeRef) {
+    ConfiguredContainer root = root();
+    return root == null ? null : root.prototype(instanceTypeRef);
+  }
+
+  private ConfiguredContainer root() {
+    if (parent instanceof ChildContainer child) {
+      return child.root();
+    }
+    return parent instanceof ConfiguredContainer root ? root : null;
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.wynn5a.di;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 把注入点一次性转换为统一签名的 MethodHandle，之后的每次创建都是对句柄的 invokeExact 调用，不再经过反射的访问检查和参数校验
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class CompiledInjector<T> implements Injector<T> {
+
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+
+  private final MethodHandle constructor;
+  private final MethodHandle[] fields;
+  private final MethodHandle[] methods;
+  private final MethodHandle[] unspread;
+
+  CompiledInjector(Constructor<T> constructor, List<Field> fields, List<Method> methods)
+      throws IllegalAccessException {
+    constructor.setAccessible(true);
+    this.constructor = LOOKUP.unreflectConstructor(constructor)
+                             .asSpreader(Object[].class, constructor.getParameterCount())
+                             .asType(methodType(Object.class, Object[].class));
+    this.fields = new MethodHandle[fields.size()];
+    for (int i = 0; i < this.fields.length; i++) {
+      Field field = fields.get(i);
+      field.setAccessible(true);
+      this.fields[i] = LOOKUP.unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+    }
+    this.methods = new MethodHandle[methods.size()];
+    this.unspread = new MethodHandle[methods.size()];
+    for (int i = 0; i < this.methods.length; i++) {
+      Method method = methods.get(i);
+      method.setAccessible(true);
+      MethodHandle handle = LOOKUP.unreflect(method);
+      this.methods[i] = handle.asSpreader(Object[].class, method.getParameterCount())
+                              .asType(methodType(void.class, Object.class, Object[].class));
+      // methods with no or one parameter are also kept unspread so that no argument array is needed
+      if (method.getParameterCount() == 0) {
+        this.unspread[i] = handle.asType(methodType(void.class, Object.class));
+      } else if (method.getParameterCount() == 1) {
+        this.unspread[i] = handle.asType(methodType(void.class, Object.class, Object.class));
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newInstance(Object[] arguments) throws Throwable {
+    return (T) (Object) constructor.invokeExact(arguments);
+  }
+
+  @Override
+  public void setField(int index, Object instance, Object value) throws Throwable {
+    fields[index].invokeExact(instance, value);
+  }
+
+  @Override
+  public void invoke(int index, Object instance, Object[] arguments) throws Throwable {
+    methods[index].invokeExact(instance, arguments);
+  }
+
+  @Override
+  public void invoke(int index, Object instance) throws Throwable {
+    unspread[index].invokeExact(instance);
+  }
+
+  @Override
+  public void invoke(int index, Object instance, Object argument) throws Throwable {
+    unspread[index].invokeExact(instance, argument);
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.wynn5a.di;
+
+import static java.util.Arrays.stream;
+
+import io.github.wynn5a.di.exception.IllegalComponentException;
+import jakarta.inject.Named;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 读取注解处理器生成的组件索引（格式见 di-processor 的 IndexWriter）。有工厂的组件只加载工厂、scope 注解和绑定的接口，
+ * 组件类在第一次创建时才加载；qualifier 不是 Named 的组件，以及非 COMPILED 注入模式下的组件需要加载组件类本身
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class ComponentIndex {
+
+  static final String RESOURCE = "META-INF/io.github.wynn5a.di/components";
+  private static final String NAMED = "@" + Named.class.getName() + ":";
+
+  private ComponentIndex() {
+  }
+
+  static void register(ContainerConfig config, ClassLoader loader, String packageName) {
+    List<Entry> entries = read(loader, packageName);
+    Map<String, Integer> claimed = new HashMap<>();
+    try {
+      for (Entry entry : entries) {
+        for (String qualifier : qualifiers(entry, loader)) {
+          for (String type : entry.bound()) {
+            claimed.merge(type + "\t" + qualifier, 1, Integer::sum);
+          }
+        }
+      }
+      for (Entry entry : entries) {
+        register(config, loader, entry, claimed);
+      }
+    } catch (ClassNotFoundException e) {
+      throw new IllegalComponentException(e);
+    }
+  }
+
+  private static void register(ContainerConfig config, ClassLoader loader, Entry entry, Map<String, Integer> claimed)
+      throws ClassNotFoundException {
+    boolean generated = config.injectionMode() == InjectionMode.COMPILED;
+    Annotation[] qualifiers;
+    InstanceSupplier<?> supplier;
+    if (generated && !entry.qualifier().equals("*")) {
+      qualifiers = entry.qualifier().isEmpty() ? new Annotation[]{null}
+          : new Annotation[]{new NamedLiteral(entry.qualifier().substring(NAMED.length()))};
+      supplier = config.indexed(GeneratedInstanceSupplier.of(entry.factory(), loader),
+                                entry.scope().isEmpty() ? null : Class.forName(entry.scope(), false, loader));
+    } else {
+      Class<?> component = Class.forName(entry.component(), false, loader);
+      qualifiers = stream(component.getAnnotations()).filter(AnnotationKind::isQualifier).toArray(Annotation[]::new);
+      if (qualifiers.length == 0) {
+        qualifiers = new Annotation[]{null};
+      }
+      supplier = config.indexed(component);
+    }
+    for (String type : entry.bound()) {
+      Class<?> bound = null;
+      for (Annotation qualifier : qualifiers) {
+        if (claimed.get(type + "\t" + key(qualifier)) > 1 && !type.equals(entry.component())) {
+          continue;
+        }
+        bound = bound != null ? bound : Class.forName(type, false, loader);
+        config.bindIndexed(bound, qualifier, supplier);
+      }
+    }
+  }
+
+  /**
+   * 组件在索引中的 qualifier；不是 Named 的 qualifier 在索引中记为 *，这时从组件类上读取，
+   * 以不同的自定义 qualifier 实现同一个接口的组件不算冲突
+   */
+  private static List<String> qualifiers(Entry entry, ClassLoader loader) throws ClassNotFoundException {
+    if (!entry.qualifier().equals("*")) {
+      return List.of(entry.qualifier());
+    }
+    return stream(Class.forName(entry.component(), false, loader).getAnnotations())
+        .filter(AnnotationKind::isQualifier).map(ComponentIndex::key).toList();
+  }
+
+  /**
+   * 与索引相同的 qualifier 表示，没有 qualifier 时为空字符串
+   */
+  private static String key(Annotation qualifier) {
+    if (qualifier == null) {
+      return "";
+    }
+    return qualifier instanceof Named named ? NAMED + named.value() : qualifier.toString();
+  }
+
+  /**
+   * 同一个组件出现在多个索引文件中时只注册一次
+   */
+  private static List<Entry> read(ClassLoader loader, String packageName) {
+    String prefix = packageName.isEmpty() ? "" : packageName + ".";
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    try {
+      Enumeration<URL> resources = loader.getResources(RESOURCE);
+      while (resources.hasMoreElements()) {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+              continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields[0].startsWith(prefix)) {
+              entries.putIfAbsent(fields[0], new Entry(fields[0], fields[1], fields[2], fields[3].split(","), fields[4]));
+            }
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new ArrayList<>(entries.values());
+  }
+
+  private record Entry(String component, String factory, String scope, String[] bound, String qualifier) {
+
+  }
+
+  private record NamedLiteral(String value) implements Named {
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+      return Named.class;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Named named && value.equals(named.value());
+    }
+
+    @Override
+    public int hashCode() {
+      return (127 * "value".hashCode()) ^ value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return "@" + Named.class.getName() + "(\"" + value + "\")";
+    }
+  }
+}
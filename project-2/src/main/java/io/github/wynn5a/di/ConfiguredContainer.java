@@ -0,0 +1,269 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Provider;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * getContainer() 返回的容器。每个绑定在创建容器时生成一个不可变的 Handle，同时实现 Provider 和 Supplier，直接持有目标 supplier，
+ * 之后获取或注入 Provider / Supplier 都返回同一个 Handle，调用它的 get 不再经过容器查找；Pool 在第一次用到时为绑定生成一次。
+ * 按类型和 qualifier 查找绑定时使用 BindingTable，Set / Map 依赖由 getContainer() 时分好组的 Multibindings 提供。
+ * 异步获取或注入 CompletableFuture 时，先在 executor 上并发创建组件所依赖的 singleton 和直接依赖的 prototype，全部完成后再创建组件本身
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class ConfiguredContainer implements Container {
+
+  private final Map<InstanceType, InstanceSupplier<?>> instanceSuppliers;
+  private final BindingTable<Binding> bindings;
+  private final Multibindings multibindings;
+  private final Executor executor;
+  private final SingletonDependencies nearest;
+  private final Map<InstanceSupplier<?>, CompletableFuture<Void>> started = new ConcurrentHashMap<>();
+  private final Map<InstanceSupplier<?>, InstanceSupplier<?>> pools = new ConcurrentHashMap<>();
+
+  ConfiguredContainer(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers, Multibindings multibindings,
+                      Executor executor) {
+    this.instanceSuppliers = instanceSuppliers;
+    this.multibindings = multibindings;
+    this.executor = executor;
+    this.nearest = new SingletonDependencies(instanceSuppliers, multibindings);
+    bindings = new BindingTable<>(instanceSuppliers,
+                                  supplier -> new Binding(supplier, handle(supplier), container -> async(supplier)));
+  }
+
+  private <T> InstanceSupplier<Handle<T>> handle(InstanceSupplier<T> supplier) {
+    Handle<T> handle = new Handle<>(supplier, this);
+    return container -> handle;
+  }
+
+  /**
+   * 第一次获取或链接某个绑定的 Pool 时才创建，之后使用同一个
+   */
+  private InstanceSupplier<?> pool(InstanceSupplier<?> supplier) {
+    return pools.computeIfAbsent(supplier, s -> {
+      Pool<?> pool = PoolScope.pool(s, this);
+      return container -> pool;
+    });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Optional<T> get(InstanceTypeRef<T> instanceTypeRef) {
+    InstanceSupplier<?> supplier = resolve(instanceTypeRef);
+    return supplier == null ? Optional.empty() : Optional.ofNullable((T) supplier.get(this));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> getAsync(InstanceTypeRef<T> instanceTypeRef) {
+    Binding binding = bindings.get(instanceTypeRef);
+    if (binding == null || instanceTypeRef.isContainerType()) {
+      return Container.super.getAsync(instanceTypeRef);
+    }
+    return (CompletableFuture<T>) async(binding.supplier());
+  }
+
+  private <T> CompletableFuture<T> async(InstanceSupplier<T> supplier) {
+    if (SingletonDependencies.isSingleton(supplier)) {
+      return start(supplier).thenApply(created -> supplier.get(this));
+    }
+    return async(supplier, this);
+  }
+
+  /**
+   * 在 container 中创建 prototype，子容器以此异步创建组件。依赖的 singleton 由这个容器并发创建，直接依赖的 prototype 同样各自在 executor 上并发创建，
+   * 全部完成后组件从 Prepared 中按顺序取得这些实例，其他依赖照常到 container 中获取
+   */
+  <T> CompletableFuture<T> async(InstanceSupplier<T> supplier, Container container) {
+    List<InstanceTypeRef> prototypes = prototypesOf(supplier, container);
+    if (prototypes.isEmpty()) {
+      return CompletableFuture.allOf(dependenciesOf(supplier)).thenApplyAsync(ready -> supplier.get(container), executor);
+    }
+    CompletableFuture<?>[] singletons = dependenciesOf(supplier);
+    CompletableFuture<?>[] created = new CompletableFuture<?>[prototypes.size()];
+    for (int i = 0; i < created.length; i++) {
+      created[i] = async(prototype(prototypes.get(i)), container);
+    }
+    CompletableFuture<?>[] all = Arrays.copyOf(singletons, singletons.length + created.length);
+    System.arraycopy(created, 0, all, singletons.length, created.length);
+    return CompletableFuture.allOf(all).thenApplyAsync(
+        ready -> supplier.get(new Prepared(container, prototypes, created)), executor);
+  }
+
+  /**
+   * 直接依赖的 prototype，每个注入点一个，同一个类型注入两次时各自创建；由子容器叠加了实例的类型不算在内
+   */
+  private List<InstanceTypeRef> prototypesOf(InstanceSupplier<?> supplier, Container container) {
+    List<InstanceTypeRef> prototypes = new ArrayList<>();
+    for (InstanceTypeRef dependency : required(supplier)) {
+      if (!dependency.isContainerType() && prototype(dependency) != null
+          && !(container instanceof ChildContainer child && child.overlays(dependency.instanceType()))) {
+        prototypes.add(dependency);
+      }
+    }
+    return prototypes;
+  }
+
+  private static List<InstanceTypeRef> required(InstanceSupplier<?> supplier) {
+    InstanceSupplier<?> created = ContainerMetrics.created(supplier);
+    if (created instanceof InjectedInstanceSupplier<?> injected) {
+      return injected.required();
+    }
+    if (created instanceof GeneratedInstanceSupplier<?> generated) {
+      return generated.required();
+    }
+    return supplier.dependencies();
+  }
+
+  /**
+   * 每个 singleton 只启动一次创建，同时等待它的调用共享同一个 future。创建失败时移除，下次获取重新尝试，与同步获取一致
+   */
+  private CompletableFuture<Void> start(InstanceSupplier<?> singleton) {
+    CompletableFuture<Void> future = started.get(singleton);
+    if (future != null) {
+      return future;
+    }
+    CompletableFuture<Void> created = new CompletableFuture<>();
+    future = started.putIfAbsent(singleton, created);
+    if (future != null) {
+      return future;
+    }
+    CompletableFuture.allOf(dependenciesOf(singleton)).thenRunAsync(() -> singleton.get(this), executor)
+                     .whenComplete((ignored, failure) -> {
+                       if (failure == null) {
+                         created.complete(null);
+                       } else {
+                         started.remove(singleton, created);
+                         created.completeExceptionally(failure);
+                       }
+                     });
+    return created;
+  }
+
+  private CompletableFuture<?>[] dependenciesOf(InstanceSupplier<?> supplier) {
+    return nearest.of(supplier).stream().map(this::start).toArray(CompletableFuture[]::new);
+  }
+
+  Map<InstanceType, InstanceSupplier<?>> suppliers() {
+    return instanceSuppliers;
+  }
+
+  SingletonDependencies nearest() {
+    return nearest;
+  }
+
+  /**
+   * 每次获取都创建实例的绑定，子容器以自己作为容器调用它，其他绑定为 null
+   */
+  InstanceSupplier<?> prototype(InstanceTypeRef<?> instanceTypeRef) {
+    Binding binding = bindings.get(instanceTypeRef);
+    return binding != null && ContainerMetrics.isPrototype(binding.supplier()) ? binding.supplier() : null;
+  }
+
+  Linker linker() {
+    return new Linker(this);
+  }
+
+  /**
+   * 提供给 InstanceSupplier.link 的 linker，容器无法直接提供的依赖在创建时再到容器中查找
+   */
+  InstanceSupplier<?> link(InstanceTypeRef<?> instanceTypeRef) {
+    InstanceSupplier<?> linked = resolve(instanceTypeRef);
+    if (linked == null) {
+      return container -> container.get(instanceTypeRef).get();
+    }
+    return linked;
+  }
+
+  private InstanceSupplier<?> resolve(InstanceTypeRef<?> instanceTypeRef) {
+    if (Multibindings.isMultibinding(instanceTypeRef)) {
+      return multibindings.supplier(instanceTypeRef);
+    }
+    Binding binding = bindings.get(instanceTypeRef);
+    if (binding == null) {
+      return null;
+    }
+    if (!instanceTypeRef.isContainerType()) {
+      return binding.supplier();
+    }
+    if (Supplier.class == instanceTypeRef.getContainerType() || Provider.class == instanceTypeRef.getContainerType()) {
+      return binding.handle();
+    }
+    if (CompletableFuture.class == instanceTypeRef.getContainerType()) {
+      return binding.future();
+    }
+    if (Pool.class == instanceTypeRef.getContainerType()) {
+      return pool(binding.supplier());
+    }
+    if (Lazy.class == instanceTypeRef.getContainerType()) {
+      return LazyProxy.supplier(instanceTypeRef.instanceType().type(), binding.supplier());
+    }
+    return null;
+  }
+
+  /**
+   * 链接的结果只对这个容器有效。同一个配置创建的容器共享 supplier，supplier 通过 owner 知道链接属于哪个容器，
+   * 由其他容器获取时不使用链接的结果，而是到传入的容器中查找依赖
+   */
+  record Linker(ConfiguredContainer container) implements Function<InstanceTypeRef, InstanceSupplier<?>> {
+
+    @Override
+    public InstanceSupplier<?> apply(InstanceTypeRef instanceTypeRef) {
+      return container.link(instanceTypeRef);
+    }
+
+    static Container owner(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      return linker instanceof Linker link ? link.container() : null;
+    }
+  }
+
+  private record Binding(InstanceSupplier<?> supplier, InstanceSupplier<?> handle, InstanceSupplier<?> future) {
+
+  }
+
+  /**
+   * 异步创建组件时使用的容器，已经创建好的 prototype 依赖按类型依次取出，每个实例只注入一次，其他获取交给 container
+   */
+  private static final class Prepared implements Container {
+
+    private final Container container;
+    private final Map<InstanceType, ArrayDeque<Object>> created = new HashMap<>();
+
+    Prepared(Container container, List<InstanceTypeRef> prototypes, CompletableFuture<?>[] instances) {
+      this.container = container;
+      for (int i = 0; i < instances.length; i++) {
+        created.computeIfAbsent(prototypes.get(i).instanceType(), type -> new ArrayDeque<>(1)).add(instances[i].join());
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(InstanceTypeRef<T> instanceTypeRef) {
+      ArrayDeque<Object> instances = instanceTypeRef.isContainerType() ? null : created.get(instanceTypeRef.instanceType());
+      if (instances != null && !instances.isEmpty()) {
+        return Optional.of((T) instances.poll());
+      }
+      return container.get(instanceTypeRef);
+    }
+  }
+
+  record Handle<T>(InstanceSupplier<T> supplier, Container container) implements Provider<T>, Supplier<T> {
+
+    @Override
+    public T get() {
+      return supplier.get(container);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package io.github.wynn5a.di;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author wynn5a
@@ -9,4 +11,24 @@ import java.util.Optional;
 public interface Container {
 
   <T> Optional<T> get(InstanceTypeRef<T> instanceTypeRef);
+
+  /**
+   * 异步获取实例，没有对应绑定时以 NoSuchElementException 失败。默认实现在调用线程上同步获取
+   */
+  default <T> CompletableFuture<T> getAsync(InstanceTypeRef<T> instanceTypeRef) {
+    try {
+      return get(instanceTypeRef).map(CompletableFuture::completedFuture).orElseGet(() -> CompletableFuture.failedFuture(
+          new NoSuchElementException("No binding for " + instanceTypeRef.instanceType())));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 创建一个子容器，overlay 中的实例优先于当前容器中的绑定，没有 scope 的组件由子容器创建并注入叠加的实例，singleton 等其他获取交给当前容器。
+   * 当前容器已经完成的校验和链接不会重新进行，子容器不再使用时直接丢弃即可
+   */
+  default Container child(Overlay overlay) {
+    return new ChildContainer(this, overlay);
+  }
 }
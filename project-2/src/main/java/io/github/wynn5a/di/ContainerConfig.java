@@ -6,23 +6,24 @@ import static java.util.List.of;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
-import io.github.wynn5a.di.exception.CyclicDependencyFoundException;
-import io.github.wynn5a.di.exception.DependencyNotFoundException;
 import io.github.wynn5a.di.exception.IllegalComponentException;
 import io.github.wynn5a.di.exception.IllegalQualifierException;
-import jakarta.inject.Provider;
 import jakarta.inject.Qualifier;
 import jakarta.inject.Scope;
 import jakarta.inject.Singleton;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Stack;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -31,37 +32,139 @@ import java.util.stream.Stream;
 public class ContainerConfig {
 
   private final Map<InstanceType, InstanceSupplier<?>> instanceSuppliers = new HashMap<>();
+  private final Set<Class<?>> scanned = new LinkedHashSet<>();
   private final Map<Class<?>, ScopeSupplier> scopeSupplier = new HashMap<>();
+  private InjectionMode injectionMode = InjectionMode.COMPILED;
+  private ErrorReporter errorReporter = ErrorReporter.IGNORE;
+  private Executor asyncExecutor = ForkJoinPool.commonPool();
+  private ContainerMetrics metrics;
+  private final Map<InstanceSupplier<?>, ContainerMetrics.Stats> measured = new IdentityHashMap<>();
+  private final Map<InstanceSupplier<?>, Consumer<InstanceType>> components = new IdentityHashMap<>();
+  private final IncrementalValidation validation = new IncrementalValidation();
+  private final RequestScope requestScope = new RequestScope();
+  private final ThreadScope threadScope = new ThreadScope();
 
   public ContainerConfig() {
     scopeSupplier.put(Singleton.class, SingletonInstanceSupplier::new);
+    scopeSupplier.put(RequestScoped.class, requestScope);
+    scopeSupplier.put(ThreadScoped.class, threadScope);
   }
 
-  private void bindComponent(Class<?> type, Class<?> implementation, Annotation... annotations) {
+  void bindComponent(Class<?> type, Class<?> implementation, Annotation... annotations) {
     Bindings bindings = Bindings.component(implementation, annotations);
     bind(type, bindings.qualifiers(), supplier(implementation, bindings.scope()));
   }
 
   private <Type> InstanceSupplier<Type> supplier(Class<Type> implementation, Optional<Annotation> scope) {
-    InjectedInstanceSupplier<Type> instanceSupplier = new InjectedInstanceSupplier<>(implementation);
-    return scope.map(s -> {
-      Class<? extends Annotation> key = s.annotationType();
-      if (!scopeSupplier.containsKey(key)) {
-        throw new IllegalComponentException("Scope instance supplier is  undefined for scope: " + s);
-      }
-      return this.scopeSupplier.get(key).create(instanceSupplier);
-    }).orElse(instanceSupplier);
+    ContainerEvents.ComponentBind event = new ContainerEvents.ComponentBind();
+    event.begin();
+    InstanceSupplier<Type> instanceSupplier = injectionMode == InjectionMode.COMPILED
+        ? GeneratedInstanceSupplier.find(implementation).<InstanceSupplier<Type>>map(g -> g.reportTo(errorReporter))
+                                   .orElseGet(() -> injected(implementation))
+        : injected(implementation);
+    InstanceSupplier<Type> supplier = measured(instanceSupplier, scope.map(Annotation::annotationType).orElse(null));
+    components.put(supplier, instanceSupplier instanceof GeneratedInstanceSupplier<?> generated
+        ? generated::bound : ((InjectedInstanceSupplier<?>) instanceSupplier)::bound);
+    if (event.shouldCommit()) {
+      event.component = implementation;
+      event.scope = scope.map(Annotation::annotationType).orElse(null);
+      event.commit();
+    }
+    return supplier;
+  }
+
+  /**
+   * 启用统计时在 scope 内侧记录创建，scope 为 null 表示每次获取都创建
+   */
+  private <Type> InstanceSupplier<Type> measured(InstanceSupplier<Type> instanceSupplier, Class<?> scope) {
+    if (metrics == null) {
+      return scope == null ? instanceSupplier : scoped(instanceSupplier, scope);
+    }
+    ContainerMetrics.Stats stats = new ContainerMetrics.Stats();
+    InstanceSupplier<Type> created = stats.creating(instanceSupplier);
+    InstanceSupplier<Type> supplier = scope == null ? created : scoped(created, scope);
+    measured.put(supplier, stats);
+    return supplier;
+  }
+
+  <Type> InstanceSupplier<Type> scoped(InstanceSupplier<Type> instanceSupplier, Class<?> scope) {
+    if (!scopeSupplier.containsKey(scope)) {
+      throw new IllegalComponentException("Scope instance supplier is  undefined for scope: @" + scope.getName());
+    }
+    return this.scopeSupplier.get(scope).create(instanceSupplier);
+  }
+
+  private <Type> InstanceSupplier<Type> injected(Class<Type> implementation) {
+    InstanceSupplier<Type> supplier = new InjectedInstanceSupplier<>(implementation, injectionMode, errorReporter);
+    scanned.add(implementation);
+    return supplier;
+  }
+
+  /**
+   * 组件索引中的绑定不覆盖已有的绑定
+   */
+  void bindIndexed(Class<?> type, Annotation qualifier, InstanceSupplier<?> supplier) {
+    InstanceType instanceType = new InstanceType(type, qualifier);
+    if (instanceSuppliers.putIfAbsent(instanceType, supplier) == null) {
+      bound(instanceType, supplier);
+    }
+  }
+
+  InstanceSupplier<?> indexed(Class<?> implementation) {
+    return createScopedSupplier(implementation, of());
   }
 
-  private void bindInstance(Class<?> type, Object instance, Annotation[] annotations) {
+  InstanceSupplier<?> indexed(GeneratedInstanceSupplier<?> factory, Class<?> scope) {
+    InstanceSupplier<?> supplier = measured(factory.reportTo(errorReporter), scope);
+    components.put(supplier, factory::bound);
+    return supplier;
+  }
+
+  InjectionMode injectionMode() {
+    return injectionMode;
+  }
+
+  void bindInstance(Class<?> type, Object instance, Annotation[] annotations) {
     bind(type, Bindings.instance(type, annotations).qualifiers(), container -> instance);
   }
 
-  private void bind(Class<?> type, List<Annotation> qualifiers, InstanceSupplier<?> supplier) {
+  void bind(Class<?> type, List<Annotation> qualifiers, InstanceSupplier<?> supplier) {
     if (qualifiers == null || qualifiers.size() == 0) {
-      instanceSuppliers.put(new InstanceType(type, null), supplier);
+      put(new InstanceType(type, null), supplier);
     } else {
-      qualifiers.forEach(q -> instanceSuppliers.put(new InstanceType(type, q), supplier));
+      qualifiers.forEach(q -> put(new InstanceType(type, q), supplier));
+    }
+  }
+
+  /**
+   * 声明只由子容器的 {@link Overlay} 提供的绑定，例如当前用户、trace 上下文，依赖它的组件可以通过校验，由子容器获取时注入叠加的实例。
+   * singleton 等缓存实例的组件总是在父容器中创建，依赖它时在创建时抛出 OutOfScopeException
+   */
+  public void childBinding(Class<?> type, Annotation... qualifiers) {
+    if (stream(qualifiers).anyMatch(q -> !AnnotationKind.isQualifier(q))) {
+      throw new IllegalQualifierException();
+    }
+    if (qualifiers.length == 0) {
+      put(new InstanceType(type, null), new ChildBinding<>(new InstanceType(type, null)));
+    }
+    for (Annotation qualifier : qualifiers) {
+      put(new InstanceType(type, qualifier), new ChildBinding<>(new InstanceType(type, qualifier)));
+    }
+  }
+
+  private void put(InstanceType type, InstanceSupplier<?> supplier) {
+    instanceSuppliers.put(type, supplier);
+    bound(type, supplier);
+  }
+
+  /**
+   * 组件的 supplier 在绑定时记下绑定的 key，创建实例的事件不必在每次创建时查找
+   */
+  private void bound(InstanceType type, InstanceSupplier<?> supplier) {
+    validation.bound(type);
+    Consumer<InstanceType> component = components.get(supplier);
+    if (component != null) {
+      component.accept(type);
     }
   }
 
@@ -93,13 +196,13 @@ public class ContainerConfig {
 
   private static <I> List<Annotation> scopeFrom(Class<I> instanceType) {
     return stream(instanceType.getDeclaredAnnotations())
-        .filter(a -> a.annotationType().isAnnotationPresent(Scope.class))
+        .filter(AnnotationKind::isScope)
         .toList();
   }
 
   private Class<?> byType(Annotation annotation) {
-    Class<?> type = annotation.annotationType();
-    return Stream.of(Scope.class, Qualifier.class).filter(type::isAnnotationPresent).findFirst()
+    AnnotationKind kind = AnnotationKind.of(annotation);
+    return Stream.of(Scope.class, Qualifier.class).filter(kind::is).findFirst()
                  .orElse(IllegalType.class);
   }
 
@@ -108,66 +211,134 @@ public class ContainerConfig {
   }
 
   private static List<Annotation> getQualifiers(Annotation[] annotations) {
-    return stream(annotations).filter(a -> a.annotationType().isAnnotationPresent(Qualifier.class)).toList();
+    return stream(annotations).filter(AnnotationKind::isQualifier).toList();
   }
 
   private void checkAnnotations(Annotation[] qualifiers) {
-    if (stream(qualifiers).map(Annotation::annotationType)
-                          .anyMatch(q -> !q.isAnnotationPresent(Qualifier.class)
-                              && !q.isAnnotationPresent(Scope.class))) {
+    if (stream(qualifiers).map(AnnotationKind::of).anyMatch(k -> !k.qualifier() && !k.scope())) {
       throw new IllegalQualifierException();
     }
   }
 
 
+  /**
+   * 只校验上次 getContainer() 之后新增或被替换的绑定，以及直接或间接依赖它们的绑定
+   */
   public Container getContainer() {
-    instanceSuppliers.keySet().forEach(c -> checkDependencies(c, new Stack<>()));
-    return new Container() {
-
-      @Override
-      public Optional get(InstanceTypeRef instanceTypeRef) {
-        InstanceSupplier<?> instanceSupplier = getSupplier(instanceTypeRef);
-        if (instanceTypeRef.isContainerType()) {
-          if (Supplier.class == instanceTypeRef.getContainerType()){
-            return Optional.ofNullable(instanceSupplier).map(s -> (Supplier<Object>) () -> s.get(this));
-          }
-          if(Provider.class == instanceTypeRef.getContainerType()){
-            return Optional.ofNullable(instanceSupplier).map(s -> (Provider<Object>) () -> s.get(this));
-          }
-          return Optional.empty();
-        }
-        return Optional.ofNullable(instanceSupplier).map(s -> (Object) s.get(this));
-      }
-    };
+    return configure(true);
   }
 
-  private InstanceSupplier<?> getSupplier(InstanceTypeRef instanceTypeRef) {
-    return instanceSuppliers.get(instanceTypeRef.instanceType());
+  /**
+   * 绑定和依赖与快照一致时跳过依赖图校验
+   */
+  public Container getContainer(ContainerSnapshot snapshot) {
+    return configure(!snapshot.matches(instanceSuppliers));
   }
 
-  private void checkDependencies(InstanceType component, Stack<InstanceType> visiting) {
-    for (InstanceTypeRef dependency : instanceSuppliers.get(component).dependencies()) {
-      InstanceType dependencyType = dependency.instanceType();
-      if (!instanceSuppliers.containsKey(dependencyType)) {
-        throw new DependencyNotFoundException(component, dependencyType);
-      }
-      if (!dependency.isContainerType()) {
-        visiting.push(component);
-        if (visiting.contains(dependencyType)) {
-          throw new CyclicDependencyFoundException(visiting);
-        }
-        checkDependencies(dependencyType, visiting);
-        visiting.pop();
+  public Container getContainer(EagerStart eagerStart) {
+    ConfiguredContainer container = configure(true);
+    eagerStart.start(container);
+    return container;
+  }
+
+  /**
+   * 在当前线程中依次创建所有 singleton，得到不受并发干扰的构造耗时以及依赖图的关键路径
+   */
+  public StartupReport analyzeStartup() {
+    EagerStart eagerStart = new EagerStart(Runnable::run);
+    getContainer(eagerStart);
+    return eagerStart.report();
+  }
+
+  private ConfiguredContainer configure(boolean validate) {
+    ContainerEvents.ContainerBuild event = new ContainerEvents.ContainerBuild();
+    event.begin();
+    Map<InstanceType, InstanceSupplier<?>> suppliers = metrics == null ? instanceSuppliers
+        : metrics.requesting(instanceSuppliers, measured);
+    Multibindings multibindings = new Multibindings(suppliers);
+    if (validate) {
+      ContainerEvents.Validation check = new ContainerEvents.Validation();
+      check.begin();
+      int checked = validation.validate(instanceSuppliers, multibindings);
+      if (check.shouldCommit()) {
+        check.bindings = checked;
+        check.commit();
       }
+    } else {
+      validation.trust(instanceSuppliers);
     }
+    ConfiguredContainer container = new ConfiguredContainer(suppliers, multibindings, asyncExecutor);
+    suppliers.values().stream().distinct().forEach(s -> s.link(container.linker()));
+    if (event.shouldCommit()) {
+      event.bindings = suppliers.size();
+      event.validated = validate;
+      event.commit();
+    }
+    return container;
+  }
+
+  Map<InstanceType, InstanceSupplier<?>> instanceSuppliers() {
+    return instanceSuppliers;
+  }
+
+  /**
+   * 通过反射扫描注入点创建的组件
+   */
+  Set<Class<?>> scanned() {
+    return scanned;
+  }
+
+  public void injection(InjectionMode mode) {
+    this.injectionMode = mode;
+  }
+
+  /**
+   * 之后绑定的组件创建失败时报告给 errorReporter
+   */
+  public void errorReporter(ErrorReporter errorReporter) {
+    this.errorReporter = errorReporter;
+  }
+
+  /**
+   * 之后创建的容器在 getAsync 和注入 CompletableFuture 时使用的 executor，默认为 ForkJoinPool.commonPool()。
+   * 组件在 executor 的线程上创建，需要 request scope 时由 executor 负责进入调用方的 ScopeContext
+   */
+  public void asyncExecutor(Executor executor) {
+    this.asyncExecutor = executor;
+  }
+
+  /**
+   * 之后绑定的组件以及之后创建的容器中的所有绑定把统计记录到 metrics，默认不记录，也不做任何包装
+   */
+  public void metrics(ContainerMetrics metrics) {
+    this.metrics = metrics;
   }
 
   public <ScopeType extends Annotation> void scope(Class<ScopeType> scope, ScopeSupplier supplier) {
     scopeSupplier.put(scope, supplier);
   }
 
+  public RequestScope requestScope() {
+    return requestScope;
+  }
+
+  public ThreadScope threadScope() {
+    return threadScope;
+  }
+
+  /**
+   * 从编译时生成的组件索引中注册 packageName 及其子包中的组件，包名为空时注册所有组件。
+   * 组件绑定到自身以及它直接实现的接口上，多个组件实现同一个接口时该接口不绑定；已有的绑定不会被覆盖。
+   * 只读取索引文件，组件本身在第一次创建时才被加载
+   */
+  public void discover(String packageName) {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    ComponentIndex.register(this, loader != null ? loader : ContainerConfig.class.getClassLoader(), packageName);
+  }
+
   public void from(Config config) {
-    new DSL(config).bind();
+    GeneratedBindings.find(config.getClass())
+                     .ifPresentOrElse(bindings -> bindings.bind(this, config), () -> new DSL(config).bind());
   }
 
   static class Bindings {
@@ -198,7 +369,7 @@ public class ContainerConfig {
     }
 
     private static Function<Annotation, Class<?>> allow(Class<? extends Annotation>... annotations) {
-      return annotation -> Stream.of(annotations).filter(annotation.annotationType()::isAnnotationPresent).findFirst()
+      return annotation -> Stream.of(annotations).filter(AnnotationKind.of(annotation)::is).findFirst()
                                  .orElse(Illegal.class);
     }
 
@@ -219,7 +390,7 @@ public class ContainerConfig {
     }
 
     private static List<Annotation> from(Class<?> implementation, Class<? extends Annotation> annotation) {
-      return stream(implementation.getAnnotations()).filter(a -> a.annotationType().isAnnotationPresent(annotation))
+      return stream(implementation.getAnnotations()).filter(a -> AnnotationKind.of(a).is(annotation))
                                                     .toList();
     }
   }
@@ -0,0 +1,136 @@
+package io.github.wynn5a.di;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+/**
+ * 容器发出的 JFR 事件，与应用的其他事件一起出现在同一份 recording 中，不需要额外的 agent。
+ * 创建实例是热路径，先读一次 {@link #isRecording()}，没有正在进行的 recording 时不创建事件对象、不计时，解释执行时也没有额外的分配；
+ * 其他事件只在构建容器时发出，直接创建事件对象，在 shouldCommit() 之后才填充字段
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class ContainerEvents {
+
+  static final String CATEGORY = "Dependency Injection";
+
+  private static final Set<Recording> RUNNING = ConcurrentHashMap.newKeySet();
+  private static volatile boolean recording;
+
+  static {
+    FlightRecorder.addListener(new FlightRecorderListener() {
+      @Override
+      public void recordingStateChanged(Recording changed) {
+        if (changed.getState() == RecordingState.RUNNING) {
+          RUNNING.add(changed);
+        } else {
+          RUNNING.remove(changed);
+        }
+        recording = !RUNNING.isEmpty();
+      }
+    });
+    if (FlightRecorder.isInitialized()) {
+      FlightRecorder.getFlightRecorder().getRecordings().stream()
+                    .filter(r -> r.getState() == RecordingState.RUNNING).forEach(RUNNING::add);
+      recording = !RUNNING.isEmpty();
+    }
+  }
+
+  private ContainerEvents() {
+  }
+
+  static boolean isRecording() {
+    return recording;
+  }
+
+  @Name("io.github.wynn5a.di.ComponentBind")
+  @Label("Component Bind")
+  @Description("Creating the instance supplier of a component binding, including scanning or loading its factory")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class ComponentBind extends Event {
+
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Scope")
+    Class<?> scope;
+  }
+
+  @Name("io.github.wynn5a.di.ComponentScan")
+  @Label("Component Scan")
+  @Description("Scanning the injection points of a component by reflection")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class ComponentScan extends Event {
+
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Preloaded")
+    @Description("Injection points were taken from a container snapshot")
+    boolean preloaded;
+  }
+
+  @Name("io.github.wynn5a.di.Validation")
+  @Label("Dependency Validation")
+  @Description("Checking the binding graph for missing and cyclic dependencies")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class Validation extends Event {
+
+    @Label("Checked Bindings")
+    @Description("Bindings added or replaced since the last validation, and the bindings depending on them")
+    int bindings;
+  }
+
+  @Name("io.github.wynn5a.di.ContainerBuild")
+  @Label("Container Build")
+  @Description("getContainer() from validation to linking every binding")
+  @Category(CATEGORY)
+  static final class ContainerBuild extends Event {
+
+    @Label("Bindings")
+    int bindings;
+
+    @Label("Validated")
+    boolean validated;
+  }
+
+  @Name("io.github.wynn5a.di.InstanceCreation")
+  @Label("Instance Creation")
+  @Description("Creating one component instance, including its dependencies")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class InstanceCreation extends Event {
+
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Binding")
+    @Description("Keys of the bindings served by the component supplier, comma separated when bound more than once")
+    String binding;
+  }
+
+  @Name("io.github.wynn5a.di.SingletonInitialization")
+  @Label("Singleton Initialization")
+  @Description("Creating a singleton, including waiting for its lock")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class SingletonInitialization extends Event {
+
+    @Label("Component")
+    Class<?> component;
+  }
+}
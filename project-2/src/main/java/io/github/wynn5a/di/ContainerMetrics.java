@@ -0,0 +1,215 @@
+package io.github.wynn5a.di;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * 每个绑定的运行时统计：获取次数、创建次数、正在进行的创建以及创建耗时的分布，获取次数减去创建次数即为 singleton / scope 的命中次数。
+ * 通过 {@link ContainerConfig#metrics(ContainerMetrics)} 启用，之后绑定的组件在 scope 内侧包装一层记录创建，getContainer() 时每个绑定在外侧再包装一层记录获取；
+ * 没有启用时不做任何包装。计数都使用 LongAdder，多个线程同时创建或获取同一个组件时不会竞争同一个计数器
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ContainerMetrics implements ContainerMetricsMXBean {
+
+  private final Map<InstanceType, Stats> bindings = new ConcurrentHashMap<>();
+
+  /**
+   * 当前所有绑定的统计，以多个 qualifier 绑定的同一个组件共享同一份统计
+   */
+  public Map<InstanceType, BindingMetrics> snapshot() {
+    Map<InstanceType, BindingMetrics> snapshot = new HashMap<>(bindings.size() * 2);
+    bindings.forEach((type, stats) -> snapshot.put(type, stats.snapshot()));
+    return snapshot;
+  }
+
+  /**
+   * 注册到平台 MBeanServer，ObjectName 为 {@code io.github.wynn5a.di:type=ContainerMetrics,name=<name>}
+   */
+  public ObjectName register(String name) {
+    try {
+      ObjectName objectName = new ObjectName("io.github.wynn5a.di:type=ContainerMetrics,name=" + ObjectName.quote(name));
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+      return objectName;
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to register container metrics: " + name, e);
+    }
+  }
+
+  @Override
+  public Map<String, Long> getRequests() {
+    return attribute(BindingMetrics::requests);
+  }
+
+  @Override
+  public Map<String, Long> getCreations() {
+    return attribute(BindingMetrics::creations);
+  }
+
+  @Override
+  public Map<String, Long> getHits() {
+    return attribute(BindingMetrics::hits);
+  }
+
+  @Override
+  public Map<String, Long> getInFlight() {
+    return attribute(BindingMetrics::inFlight);
+  }
+
+  @Override
+  public Map<String, Long> getMeanCreationNanos() {
+    return attribute(BindingMetrics::meanCreationNanos);
+  }
+
+  @Override
+  public Map<String, Long> getP99CreationNanos() {
+    return attribute(metrics -> metrics.creationNanos(0.99));
+  }
+
+  private Map<String, Long> attribute(ToLongFunction<BindingMetrics> metric) {
+    Map<String, Long> attribute = new TreeMap<>();
+    bindings.forEach((type, stats) -> attribute.put(type.key(), metric.applyAsLong(stats.snapshot())));
+    return attribute;
+  }
+
+  /**
+   * 每个 supplier 在外侧包装一次，measured 中没有的绑定（如实例绑定）只记录获取次数
+   */
+  Map<InstanceType, InstanceSupplier<?>> requesting(Map<InstanceType, InstanceSupplier<?>> suppliers,
+                                                     Map<InstanceSupplier<?>, Stats> measured) {
+    Map<InstanceSupplier<?>, Requested<?>> wrapped = new IdentityHashMap<>();
+    Map<InstanceType, InstanceSupplier<?>> requesting = new HashMap<>(suppliers.size() * 2);
+    suppliers.forEach((type, supplier) -> {
+      Requested<?> requested = wrapped.computeIfAbsent(supplier, s -> new Requested<>(s, stats(measured, s)));
+      bindings.put(type, requested.stats());
+      requesting.put(type, requested);
+    });
+    return requesting;
+  }
+
+  private static Stats stats(Map<InstanceSupplier<?>, Stats> measured, InstanceSupplier<?> supplier) {
+    Stats stats = measured.get(supplier);
+    return stats != null ? stats : new Stats();
+  }
+
+  /**
+   * 去掉计数请求的外层包装，得到 scope 创建的 supplier
+   */
+  static InstanceSupplier<?> scoped(InstanceSupplier<?> supplier) {
+    return supplier instanceof Requested<?> requested ? requested.supplier() : supplier;
+  }
+
+  /**
+   * 没有 scope、每次获取都创建实例的组件绑定
+   */
+  static boolean isPrototype(InstanceSupplier<?> supplier) {
+    InstanceSupplier<?> created = created(supplier);
+    return created instanceof InjectedInstanceSupplier<?> || created instanceof GeneratedInstanceSupplier<?>;
+  }
+
+  /**
+   * 去掉计数请求和记录创建的包装，prototype 绑定得到组件自己的 supplier
+   */
+  static InstanceSupplier<?> created(InstanceSupplier<?> supplier) {
+    InstanceSupplier<?> scoped = scoped(supplier);
+    return scoped instanceof Created<?> creating ? creating.supplier() : scoped;
+  }
+
+  static boolean isSingleton(InstanceSupplier<?> supplier) {
+    return supplier instanceof Requested<?> requested && requested.supplier() instanceof SingletonInstanceSupplier<?>;
+  }
+
+  /**
+   * 一个组件的计数器。创建耗时按 2 的幂分桶，第 i 个桶记录 [2^(i+10), 2^(i+11)) 纳秒的创建，第一个和最后一个桶同时包含更短和更长的耗时
+   */
+  static final class Stats {
+
+    static final int BUCKETS = 24;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder creationNanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    Stats() {
+      for (int i = 0; i < BUCKETS; i++) {
+        histogram[i] = new LongAdder();
+      }
+    }
+
+    <T> InstanceSupplier<T> creating(InstanceSupplier<T> supplier) {
+      return new Created<>(supplier, this);
+    }
+
+    private void created(long nanos) {
+      creations.increment();
+      creationNanos.add(nanos);
+      int bucket = 63 - Long.numberOfLeadingZeros(nanos) - 10;
+      histogram[Math.max(0, Math.min(BUCKETS - 1, bucket))].increment();
+    }
+
+    BindingMetrics snapshot() {
+      long[] buckets = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets[i] = histogram[i].sum();
+      }
+      return new BindingMetrics(requests.sum(), creations.sum(), inFlight.sum(), creationNanos.sum(), buckets);
+    }
+  }
+
+  private record Created<T>(InstanceSupplier<T> supplier, Stats stats) implements InstanceSupplier<T> {
+
+    @Override
+    public T get(Container container) {
+      stats.inFlight.increment();
+      long start = System.nanoTime();
+      try {
+        return supplier.get(container);
+      } finally {
+        stats.created(System.nanoTime() - start);
+        stats.inFlight.decrement();
+      }
+    }
+
+    @Override
+    public List<InstanceTypeRef> dependencies() {
+      return supplier.dependencies();
+    }
+
+    @Override
+    public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      supplier.link(linker);
+    }
+  }
+
+  private record Requested<T>(InstanceSupplier<T> supplier, Stats stats) implements InstanceSupplier<T> {
+
+    @Override
+    public T get(Container container) {
+      stats.requests.increment();
+      return supplier.get(container);
+    }
+
+    @Override
+    public List<InstanceTypeRef> dependencies() {
+      return supplier.dependencies();
+    }
+
+    @Override
+    public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      supplier.link(linker);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.wynn5a.di;
+
+import java.util.Map;
+
+/**
+ * {@link ContainerMetrics} 的 JMX 视图，每个属性以绑定（类型名，有 qualifier 时加上 qualifier）为 key
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public interface ContainerMetricsMXBean {
+
+  Map<String, Long> getRequests();
+
+  Map<String, Long> getCreations();
+
+  Map<String, Long> getHits();
+
+  Map<String, Long> getInFlight();
+
+  Map<String, Long> getMeanCreationNanos();
+
+  Map<String, Long> getP99CreationNanos();
+}
@@ -0,0 +1,314 @@
+package io.github.wynn5a.di;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 校验通过的绑定图的二进制快照，包括通过反射创建的组件的注入点，以及按拓扑顺序排列的绑定和它们的依赖。
+ * 读取快照时，字节码（包括所有父类）没有变化的组件直接使用记录的注入点，不再扫描成员和注解；
+ * {@link ContainerConfig#getContainer(ContainerSnapshot)} 时如果绑定、依赖以及绑定是否池化与快照完全一致则跳过依赖图校验，否则照常校验。
+ * 文件不存在、格式不对或版本不同时得到一个不匹配任何配置的空快照
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ContainerSnapshot {
+
+  /**
+   * 构建时校验写入的快照在 classpath 中的位置
+   */
+  public static final String VALIDATED = "META-INF/io.github.wynn5a.di/container.snapshot";
+
+  private static final int MAGIC = 0x44495331;
+  private static final int VERSION = 3;
+  private static final ContainerSnapshot EMPTY = new ContainerSnapshot(null);
+  private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+      "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class, "int", int.class,
+      "long", long.class, "float", float.class, "double", double.class, "void", void.class);
+
+  private final List<Binding> bindings;
+
+  private ContainerSnapshot(List<Binding> bindings) {
+    this.bindings = bindings;
+  }
+
+  /**
+   * 校验 config 中的绑定并写入快照，校验失败时抛出与 getContainer() 相同的异常
+   */
+  public static void write(ContainerConfig config, Path file) {
+    Map<InstanceType, InstanceSupplier<?>> suppliers = config.instanceSuppliers();
+    List<InstanceType> order = new DependencyGraph(suppliers, new Multibindings(suppliers)).order();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(config.scanned().size());
+      Map<Class<?>, Long> checksums = new HashMap<>();
+      for (Class<?> component : config.scanned()) {
+        writeComponent(out, component, checksums);
+      }
+      out.writeInt(order.size());
+      for (InstanceType type : order) {
+        List<InstanceTypeRef> dependencies = suppliers.get(type).dependencies();
+        writeString(out, key(type));
+        out.writeBoolean(PoolScope.isPooled(suppliers.get(type)));
+        out.writeInt(dependencies.size());
+        for (InstanceTypeRef dependency : dependencies) {
+          writeString(out, key(dependency));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 通过内存映射读取快照，并登记其中字节码未变化的组件的注入点，需要在绑定这些组件之前调用
+   */
+  public static ContainerSnapshot read(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return EMPTY;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 读取构建时由 {@link ContainerValidator} 写入、打包在 classpath 中 {@link #VALIDATED} 位置的快照，不存在时为空快照
+   */
+  public static ContainerSnapshot validated() {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    try (InputStream in = (loader != null ? loader : ContainerSnapshot.class.getClassLoader())
+        .getResourceAsStream(VALIDATED)) {
+      return in == null ? EMPTY : read(ByteBuffer.wrap(in.readAllBytes()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ContainerSnapshot read(ByteBuffer buffer) {
+    try {
+      if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        return EMPTY;
+      }
+      ClassLoader loader = ContainerSnapshot.class.getClassLoader();
+      int components = buffer.getInt();
+      Map<Class<?>, Long> checksums = new HashMap<>();
+      for (int i = 0; i < components; i++) {
+        readComponent(buffer, loader, checksums);
+      }
+      int count = buffer.getInt();
+      List<Binding> bindings = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        String key = readString(buffer);
+        boolean pooled = buffer.get() != 0;
+        String[] dependencies = new String[buffer.getInt()];
+        for (int j = 0; j < dependencies.length; j++) {
+          dependencies[j] = readString(buffer);
+        }
+        bindings.add(new Binding(key, pooled, dependencies));
+      }
+      return new ContainerSnapshot(bindings);
+    } catch (BufferUnderflowException | NegativeArraySizeException e) {
+      return EMPTY;
+    }
+  }
+
+  /**
+   * 快照担保的只是 {@link DependencyGraph} 读取的信息：绑定的 key、绑定是否在 {@link PoolScope} 上、每个绑定依赖的 key 及其顺序。
+   * 三者都一致时，缺失的依赖、循环和池化组件的注入方式这三项检查的结果与写入快照时相同。
+   * 校验如果开始读取 supplier 的其他信息（例如 scope），需要同时把它写入快照并提升 VERSION，否则这里会错误地跳过校验
+   */
+  boolean matches(Map<InstanceType, InstanceSupplier<?>> suppliers) {
+    if (bindings == null || bindings.size() != suppliers.size()) {
+      return false;
+    }
+    Map<String, InstanceType> types = new HashMap<>(suppliers.size() * 2);
+    for (InstanceType type : suppliers.keySet()) {
+      if (types.put(key(type), type) != null) {
+        return false;
+      }
+    }
+    for (Binding binding : bindings) {
+      InstanceType type = types.get(binding.key());
+      if (type == null) {
+        return false;
+      }
+      if (PoolScope.isPooled(suppliers.get(type)) != binding.pooled()) {
+        return false;
+      }
+      List<InstanceTypeRef> dependencies = suppliers.get(type).dependencies();
+      if (dependencies.size() != binding.dependencies().length) {
+        return false;
+      }
+      for (int i = 0; i < dependencies.size(); i++) {
+        if (!key(dependencies.get(i)).equals(binding.dependencies()[i])) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static void writeComponent(DataOutputStream out, Class<?> component, Map<Class<?>, Long> checksums)
+      throws IOException {
+    InjectionPoints<?> points = InjectionPoints.of(component);
+    writeString(out, component.getName());
+    out.writeLong(checksum(component, checksums));
+    writeTypes(out, points.constructor.element().getParameterTypes());
+    out.writeInt(points.fields.size());
+    for (Injectable<Field> field : points.fields) {
+      writeString(out, field.element().getDeclaringClass().getName());
+      writeString(out, field.element().getName());
+    }
+    out.writeInt(points.methods.size());
+    for (Injectable<Method> method : points.methods) {
+      writeString(out, method.element().getDeclaringClass().getName());
+      writeString(out, method.element().getName());
+      writeTypes(out, method.element().getParameterTypes());
+    }
+  }
+
+  /**
+   * 记录的内容总是完整读出，组件无法加载或字节码已经变化时丢弃，之后照常扫描
+   */
+  private static void readComponent(ByteBuffer buffer, ClassLoader loader, Map<Class<?>, Long> checksums) {
+    String name = readString(buffer);
+    long checksum = buffer.getLong();
+    String[] constructor = readTypes(buffer);
+    String[][] fields = new String[buffer.getInt()][];
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = new String[]{readString(buffer), readString(buffer)};
+    }
+    String[][] methods = new String[buffer.getInt()][];
+    String[][] parameters = new String[methods.length][];
+    for (int i = 0; i < methods.length; i++) {
+      methods[i] = new String[]{readString(buffer), readString(buffer)};
+      parameters[i] = readTypes(buffer);
+    }
+    try {
+      Class<?> component = Class.forName(name, false, loader);
+      if (checksum(component, checksums) != checksum) {
+        return;
+      }
+      List<Field> injectFields = new ArrayList<>(fields.length);
+      for (String[] field : fields) {
+        injectFields.add(Class.forName(field[0], false, loader).getDeclaredField(field[1]));
+      }
+      List<Method> injectMethods = new ArrayList<>(methods.length);
+      for (int i = 0; i < methods.length; i++) {
+        injectMethods.add(Class.forName(methods[i][0], false, loader)
+                               .getDeclaredMethod(methods[i][1], types(parameters[i], loader)));
+      }
+      preload(component, component.getDeclaredConstructor(types(constructor, loader)), injectFields, injectMethods);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // stale snapshot, the component will be scanned when it is bound
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void preload(Class<T> component, Constructor<?> constructor, List<Field> fields,
+                                  List<Method> methods) {
+    InjectionPoints.preload(component, (Constructor<T>) constructor, fields, methods);
+  }
+
+  /**
+   * 组件及其所有父类的字节码的 CRC32 依次组合的结果，任何一个类的字节码无法读取时返回 -1，与任何记录都不匹配。
+   * 每个类的 CRC32 在一次读写中只计算一次，组件共享的父类不会被重复读取
+   */
+  private static long checksum(Class<?> component, Map<Class<?>, Long> checksums) {
+    long checksum = 0;
+    for (Class<?> current = component; current != null && current != Object.class; current = current.getSuperclass()) {
+      long crc = checksums.computeIfAbsent(current, ContainerSnapshot::crc);
+      if (crc < 0) {
+        return -1;
+      }
+      checksum = checksum * 31 + crc;
+    }
+    return checksum;
+  }
+
+  private static long crc(Class<?> type) {
+    String resource = "/" + type.getName().replace('.', '/') + ".class";
+    try (InputStream in = type.getResourceAsStream(resource)) {
+      if (in == null) {
+        return -1;
+      }
+      CRC32 crc = new CRC32();
+      crc.update(in.readAllBytes());
+      return crc.getValue();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static String key(InstanceType type) {
+    return type.key();
+  }
+
+  private static String key(InstanceTypeRef<?> ref) {
+    String key = key(ref.instanceType());
+    return ref.isContainerType() ? ref.getContainerType().getTypeName() + "<" + key + ">" : key;
+  }
+
+  private static void writeTypes(DataOutputStream out, Class<?>[] types) throws IOException {
+    out.writeInt(types.length);
+    for (Class<?> type : types) {
+      writeString(out, type.getName());
+    }
+  }
+
+  private static String[] readTypes(ByteBuffer buffer) {
+    String[] types = new String[buffer.getInt()];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = readString(buffer);
+    }
+    return types;
+  }
+
+  private static Class<?>[] types(String[] names, ClassLoader loader) throws ClassNotFoundException {
+    Class<?>[] types = new Class<?>[names.length];
+    for (int i = 0; i < names.length; i++) {
+      Class<?> primitive = PRIMITIVES.get(names[i]);
+      types[i] = primitive != null ? primitive : Class.forName(names[i], false, loader);
+    }
+    return types;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private record Binding(String key, boolean pooled, String[] dependencies) {
+
+  }
+}
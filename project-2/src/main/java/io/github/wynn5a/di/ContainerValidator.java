@@ -0,0 +1,83 @@
+package io.github.wynn5a.di;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 构建时校验容器配置，由 gradle/container-validation.gradle 中的 validateContainer 任务调用：
+ * <pre>java io.github.wynn5a.di.ContainerValidator &lt;快照文件&gt; &lt;Config 类名 | 包名.*&gt;...</pre>
+ * Config 类通过无参构造函数创建后交给 {@link ContainerConfig#from(Config)}，以 .* 结尾的参数交给 {@link ContainerConfig#discover(String)}。
+ * 与 getContainer() 的检查相同，缺失的依赖和循环分别打印；有问题时以状态 1 退出且不写快照，否则写入 {@link ContainerSnapshot}。
+ * 运行时以 {@link ContainerSnapshot#validated()} 读取随 classes 打包的快照，绑定和依赖与快照一致时 getContainer 跳过校验
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ContainerValidator {
+
+  private ContainerValidator() {
+  }
+
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.err.println("usage: ContainerValidator <snapshot file> <config class | package.*>...");
+      System.exit(2);
+    }
+    List<RuntimeException> problems = validate(Path.of(args[0]), Arrays.asList(args).subList(1, args.length));
+    if (!problems.isEmpty()) {
+      problems.forEach(problem -> System.err.println(problem.getMessage()));
+      System.exit(1);
+    }
+  }
+
+  /**
+   * 校验通过时写入快照并返回空列表；原有的快照总是先被删除，校验失败之后不会留下过期的快照
+   */
+  static List<RuntimeException> validate(Path snapshot, List<String> modules) {
+    try {
+      Files.deleteIfExists(snapshot);
+      ContainerConfig config = new ContainerConfig();
+      for (String module : modules) {
+        load(config, module);
+      }
+      List<RuntimeException> problems = new DependencyGraph(config.instanceSuppliers()).problems();
+      if (problems.isEmpty()) {
+        if (snapshot.getParent() != null) {
+          Files.createDirectories(snapshot.getParent());
+        }
+        ContainerSnapshot.write(config, snapshot);
+      }
+      return problems;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void load(ContainerConfig config, String module) {
+    if (module.equals("*")) {
+      config.discover("");
+      return;
+    }
+    if (module.endsWith(".*")) {
+      config.discover(module.substring(0, module.length() - 2));
+      return;
+    }
+    try {
+      ClassLoader loader = Thread.currentThread().getContextClassLoader();
+      Class<?> type = Class.forName(module, true, loader != null ? loader : ContainerValidator.class.getClassLoader());
+      if (!Config.class.isAssignableFrom(type)) {
+        throw new IllegalArgumentException(module + " is not a " + Config.class.getName());
+      }
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      config.from((Config) constructor.newInstance());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Cannot create config " + module, e);
+    }
+  }
+}
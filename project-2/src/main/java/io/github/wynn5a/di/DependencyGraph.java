@@ -0,0 +1,231 @@
+package io.github.wynn5a.di;
+
+import io.github.wynn5a.di.exception.CyclicDependencyFoundException;
+import io.github.wynn5a.di.exception.DependencyNotFoundException;
+import io.github.wynn5a.di.exception.DependencyNotFoundException.Missing;
+import io.github.wynn5a.di.exception.IllegalComponentException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 绑定的依赖图校验，时间与绑定数和依赖数成线性关系：先一次遍历找出所有缺失的依赖，再用非递归的 Tarjan 算法找出所有强连通分量，每个分量给出一条有序的循环路径。
+ * 分量按依赖在前的顺序产生，没有循环时即为拓扑顺序。通过 Provider / Supplier 和 Lazy 代理的依赖不构成循环；Set / Map 依赖不会缺失，它的每个成员都是一条边。
+ * {@link PoolScope} 上的组件只能以 Pool 注入，其他注入方式（包括作为 Set / Map 的成员）取出的实例不会再归还。
+ * 也可以只校验其中一部分绑定：依赖仍然到所有绑定中查找，但只有指向这部分绑定的依赖才是图中的边。
+ * 校验只读取每个绑定的 dependencies() 以及它是否池化，{@link ContainerSnapshot} 记录的正是这些信息，新增的检查需要读取更多信息时快照也要一起记录
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class DependencyGraph {
+
+  private final InstanceType[] nodes;
+  private final int[][] edges;
+  private final List<Missing> missing = new ArrayList<>();
+  private final List<Missing> unpooled = new ArrayList<>();
+  private final List<InstanceType> order = new ArrayList<>();
+
+  DependencyGraph(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers) {
+    this(instanceSuppliers, new Multibindings(instanceSuppliers));
+  }
+
+  DependencyGraph(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers, Multibindings multibindings) {
+    this(instanceSuppliers, multibindings, instanceSuppliers.keySet());
+  }
+
+  DependencyGraph(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers, Multibindings multibindings,
+                  Collection<InstanceType> subgraph) {
+    nodes = subgraph.toArray(InstanceType[]::new);
+    Map<InstanceType, Integer> indexes = new HashMap<>(nodes.length * 2);
+    for (int i = 0; i < nodes.length; i++) {
+      indexes.put(nodes[i], i);
+    }
+    edges = new int[nodes.length][];
+    for (int i = 0; i < nodes.length; i++) {
+      List<InstanceTypeRef> dependencies = instanceSuppliers.get(nodes[i]).dependencies();
+      int[] targets = new int[dependencies.size()];
+      int count = 0;
+      for (InstanceTypeRef dependency : dependencies) {
+        if (Multibindings.isMultibinding(dependency)) {
+          InstanceType[] members = multibindings.members(dependency);
+          targets = Arrays.copyOf(targets, targets.length + members.length);
+          for (InstanceType member : members) {
+            if (PoolScope.isPooled(instanceSuppliers.get(member))) {
+              unpooled.add(new Missing(nodes[i], member));
+            }
+            Integer target = indexes.get(member);
+            if (target != null) {
+              targets[count++] = target;
+            }
+          }
+          continue;
+        }
+        if (Pool.class != dependency.getContainerType()
+            && PoolScope.isPooled(instanceSuppliers.get(dependency.instanceType()))) {
+          unpooled.add(new Missing(nodes[i], dependency.instanceType()));
+        }
+        Integer target = indexes.get(dependency.instanceType());
+        if (target == null) {
+          if (!instanceSuppliers.containsKey(dependency.instanceType())) {
+            missing.add(new Missing(nodes[i], dependency.instanceType()));
+          }
+        } else if (!dependency.isContainerType()) {
+          targets[count++] = target;
+        }
+      }
+      edges[i] = count == targets.length ? targets : Arrays.copyOf(targets, count);
+    }
+  }
+
+  /**
+   * 缺失的依赖、循环和没有通过 Pool 注入的池化组件在同一次校验中报告：抛出其中第一个问题，其余的作为它的 suppressed 异常
+   */
+  void validate() {
+    List<RuntimeException> problems = problems();
+    if (problems.isEmpty()) {
+      return;
+    }
+    RuntimeException first = problems.get(0);
+    problems.subList(1, problems.size()).forEach(first::addSuppressed);
+    throw first;
+  }
+
+  /**
+   * validate 报告的所有问题，依次为缺失的依赖、循环和池化组件的注入方式，没有问题时为空
+   */
+  List<RuntimeException> problems() {
+    List<RuntimeException> problems = new ArrayList<>();
+    if (!missing.isEmpty()) {
+      problems.add(new DependencyNotFoundException(Collections.unmodifiableList(missing)));
+    }
+    List<List<InstanceType>> cycles = cycles();
+    if (!cycles.isEmpty()) {
+      problems.add(new CyclicDependencyFoundException(cycles));
+    }
+    if (!unpooled.isEmpty()) {
+      problems.add(new IllegalComponentException(
+          unpooled.stream().map(m -> m.component() + " -> " + m.dependency())
+                  .collect(Collectors.joining("\n", "Pooled components must be injected as Pool<T>:\n", ""))));
+    }
+    return problems;
+  }
+
+  /**
+   * 校验通过后所有绑定的拓扑顺序，每个绑定都排在它所依赖的绑定之后
+   */
+  List<InstanceType> order() {
+    validate();
+    return Collections.unmodifiableList(order);
+  }
+
+  List<List<InstanceType>> cycles() {
+    order.clear();
+    int n = nodes.length;
+    int[] index = new int[n];
+    int[] low = new int[n];
+    int[] component = new int[n];
+    boolean[] onStack = new boolean[n];
+    int[] next = new int[n];
+    int[] stack = new int[n];
+    int[] calls = new int[n];
+    Arrays.fill(index, -1);
+    Arrays.fill(component, -1);
+    int counter = 0;
+    int top = 0;
+    List<List<InstanceType>> cycles = new ArrayList<>();
+
+    for (int start = 0; start < n; start++) {
+      if (index[start] != -1) {
+        continue;
+      }
+      int depth = 0;
+      calls[depth++] = start;
+      index[start] = low[start] = counter++;
+      stack[top++] = start;
+      onStack[start] = true;
+      while (depth > 0) {
+        int v = calls[depth - 1];
+        if (next[v] < edges[v].length) {
+          int w = edges[v][next[v]++];
+          if (index[w] == -1) {
+            index[w] = low[w] = counter++;
+            stack[top++] = w;
+            onStack[w] = true;
+            calls[depth++] = w;
+          } else if (onStack[w]) {
+            low[v] = Math.min(low[v], index[w]);
+          }
+          continue;
+        }
+        depth--;
+        if (depth > 0) {
+          int parent = calls[depth - 1];
+          low[parent] = Math.min(low[parent], low[v]);
+        }
+        if (low[v] == index[v]) {
+          int size = 0;
+          int w;
+          do {
+            w = stack[--top];
+            onStack[w] = false;
+            component[w] = v;
+            order.add(nodes[w]);
+            size++;
+          } while (w != v);
+          if (size > 1 || hasSelfLoop(v)) {
+            cycles.add(path(v, component));
+          }
+        }
+      }
+    }
+    return cycles;
+  }
+
+  private boolean hasSelfLoop(int v) {
+    for (int w : edges[v]) {
+      if (w == v) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 在强连通分量内部从 root 出发广度优先找到回到 root 的最短路径
+   */
+  private List<InstanceType> path(int root, int[] component) {
+    Map<Integer, Integer> parents = new HashMap<>();
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    queue.add(root);
+    parents.put(root, -1);
+    while (!queue.isEmpty()) {
+      int v = queue.poll();
+      for (int w : edges[v]) {
+        if (component[w] != root) {
+          continue;
+        }
+        if (w == root) {
+          List<InstanceType> path = new ArrayList<>();
+          path.add(nodes[root]);
+          for (int u = v; u != -1; u = parents.get(u)) {
+            path.add(nodes[u]);
+          }
+          Collections.reverse(path);
+          return path;
+        }
+        if (!parents.containsKey(w)) {
+          parents.put(w, v);
+          queue.add(w);
+        }
+      }
+    }
+    throw new IllegalStateException("No cycle through " + nodes[root]);
+  }
+}
@@ -0,0 +1,110 @@
+package io.github.wynn5a.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 在 {@link ContainerConfig#getContainer(EagerStart)} 中提前创建所有 singleton。
+ * 每个 singleton 只等待它（直接或经由 prototype 间接）依赖的 singleton，互不依赖的 singleton 在 executor 上并发创建，所以启动耗时取决于依赖图的深度而不是大小
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public class EagerStart {
+
+  private final Executor executor;
+  private final Map<InstanceType, Duration> initTimes = new ConcurrentHashMap<>();
+  private volatile StartupReport report;
+
+  public EagerStart(Executor executor) {
+    this.executor = executor;
+  }
+
+  public EagerStart() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * 每个 singleton 绑定的构造耗时，包括等待它所依赖的 prototype 创建的时间，但不包括等待依赖的 singleton
+   */
+  public Map<InstanceType, Duration> initTimes() {
+    return Collections.unmodifiableMap(initTimes);
+  }
+
+  /**
+   * 最近一次启动的关键路径分析
+   */
+  public StartupReport report() {
+    StartupReport report = this.report;
+    if (report == null) {
+      throw new IllegalStateException("No container has been started with this EagerStart");
+    }
+    return report;
+  }
+
+  void start(ConfiguredContainer container) {
+    new Graph(container, container.suppliers(), container.nearest()).start();
+  }
+
+  private class Graph {
+
+    private final Container container;
+    private final Map<InstanceSupplier<?>, List<InstanceType>> bindings = new IdentityHashMap<>();
+    private final SingletonDependencies nearest;
+    private final Map<InstanceSupplier<?>, CompletableFuture<Void>> started = new IdentityHashMap<>();
+    private final Map<InstanceSupplier<?>, Duration> durations = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    Graph(Container container, Map<InstanceType, InstanceSupplier<?>> suppliers, SingletonDependencies nearest) {
+      this.container = container;
+      this.nearest = nearest;
+      suppliers.forEach((type, supplier) -> bindings.computeIfAbsent(supplier, s -> new ArrayList<>()).add(type));
+    }
+
+    void start() {
+      List<CompletableFuture<Void>> all = new ArrayList<>();
+      for (InstanceSupplier<?> supplier : bindings.keySet()) {
+        if (SingletonDependencies.isSingleton(supplier)) {
+          all.add(start(supplier));
+        }
+      }
+      try {
+        CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+      report = StartupReport.of(bindings, durations, nearest);
+    }
+
+    private CompletableFuture<Void> start(InstanceSupplier<?> singleton) {
+      CompletableFuture<Void> future = started.get(singleton);
+      if (future != null) {
+        return future;
+      }
+      CompletableFuture<?>[] dependencies = nearest.of(singleton).stream().map(this::start)
+                                                   .toArray(CompletableFuture[]::new);
+      future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> create(singleton), executor);
+      started.put(singleton, future);
+      return future;
+    }
+
+    private void create(InstanceSupplier<?> singleton) {
+      long start = System.nanoTime();
+      singleton.get(container);
+      Duration duration = Duration.ofNanos(System.nanoTime() - start);
+      durations.put(singleton, duration);
+      bindings.get(singleton).forEach(type -> initTimes.put(type, duration));
+    }
+  }
+}
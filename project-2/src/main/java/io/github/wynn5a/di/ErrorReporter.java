@@ -0,0 +1,23 @@
+package io.github.wynn5a.di;
+
+import java.util.List;
+
+/**
+ * 组件创建失败时的诊断出口。诊断只在出现异常时才生成，正常创建的路径上不做任何额外的工作；报告之后异常仍会被抛出
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface ErrorReporter {
+
+  ErrorReporter IGNORE = (component, dependencies, error) -> {
+  };
+
+  /**
+   * @param component    创建失败的组件
+   * @param dependencies 组件声明的依赖
+   * @param error        构造、注入或获取依赖时抛出的异常
+   */
+  void report(Class<?> component, List<InstanceTypeRef> dependencies, Throwable error);
+}
@@ -0,0 +1,95 @@
+package io.github.wynn5a.di;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 实例在创建（afterWrite）或最近一次获取（afterAccess）之后经过 ttl 过期，过期后的下一次获取重新创建。
+ * afterAccess 不在每次命中时写入访问时间，只在过期时间需要推后超过 ttl 的 1/64 时才写，频繁读取同一个实例的线程之间不会争用同一个缓存行
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ExpiringScope extends CachingScope {
+
+  private final long ttl;
+  private final long granularity;
+  private final boolean afterAccess;
+  private final LongSupplier clock;
+
+  ExpiringScope(Duration ttl, boolean afterAccess, LongSupplier clock) {
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+    }
+    this.ttl = ttl.toNanos();
+    this.granularity = Math.max(1, this.ttl >> 6);
+    this.afterAccess = afterAccess;
+    this.clock = clock;
+  }
+
+  public static ExpiringScope afterWrite(Duration ttl) {
+    return new ExpiringScope(ttl, false, System::nanoTime);
+  }
+
+  public static ExpiringScope afterAccess(Duration ttl) {
+    return new ExpiringScope(ttl, true, System::nanoTime);
+  }
+
+  @Override
+  public <I> InstanceSupplier<I> create(InstanceSupplier<I> supplier) {
+    return new Expiring<>(supplier);
+  }
+
+  private static final class Entry<T> {
+
+    private final T instance;
+    private volatile long expiresAt;
+
+    Entry(T instance, long expiresAt) {
+      this.instance = instance;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private final class Expiring<T> extends Cached<T> {
+
+    private volatile Entry<T> entry;
+
+    Expiring(InstanceSupplier<T> supplier) {
+      super(supplier);
+    }
+
+    @Override
+    public T get(Container container) {
+      Entry<T> current = entry;
+      long now = clock.getAsLong();
+      if (current != null && now - current.expiresAt < 0) {
+        return hit(current, now);
+      }
+      lock.lock();
+      try {
+        current = entry;
+        now = clock.getAsLong();
+        if (current != null && now - current.expiresAt < 0) {
+          return hit(current, now);
+        }
+        if (current != null) {
+          evictions.increment();
+          entry = null;
+        }
+        T instance = create(container);
+        entry = new Entry<>(instance, clock.getAsLong() + ttl);
+        return instance;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private T hit(Entry<T> current, long now) {
+      if (afterAccess && now + ttl - current.expiresAt > granularity) {
+        current.expiresAt = now + ttl;
+      }
+      return hit(current.instance);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package io.github.wynn5a.di;
+
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
+/**
+ * 注解处理器为 {@link Config} 的具名实现类生成的绑定表（{@code <Config 的二进制名>$$Bindings}）的基类。
+ * {@link ContainerConfig#from(Config)} 直接调用它而不再读取 Config 的字段与注解，绑定规则与 DSL 相同
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public abstract class GeneratedBindings {
+
+  static final String SUFFIX = "$$Bindings";
+
+  protected abstract void bind(ContainerConfig containerConfig, Config config);
+
+  protected final void instance(ContainerConfig containerConfig, Class<?> type, Object instance,
+                                Annotation... annotations) {
+    containerConfig.bindInstance(type, instance, annotations);
+  }
+
+  protected final void component(ContainerConfig containerConfig, Class<?> type, Class<?> implementation,
+                                 Annotation... annotations) {
+    containerConfig.bindComponent(type, implementation, annotations);
+  }
+
+  static Optional<GeneratedBindings> find(Class<? extends Config> config) {
+    try {
+      Class<?> bindings = Class.forName(config.getName() + SUFFIX, true, config.getClassLoader());
+      if (!GeneratedBindings.class.isAssignableFrom(bindings)) {
+        return Optional.empty();
+      }
+      return Optional.of((GeneratedBindings) bindings.getConstructor().newInstance());
+    } catch (ClassNotFoundException e) {
+      return Optional.empty();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create generated bindings of " + config.getName(), e);
+    }
+  }
+}
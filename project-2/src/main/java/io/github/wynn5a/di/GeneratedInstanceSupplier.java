@@ -0,0 +1,165 @@
+package io.github.wynn5a.di;
+
+import static java.util.Arrays.stream;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 注解处理器为组件生成的工厂（{@code <组件的二进制名>$$Factory}）的基类。
+ * 生成的 create 方法直接调用构造函数、设置字段和调用注入方法，依赖按照注入点的顺序通过下标获取，运行时不再扫描组件的类型层次
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public abstract class GeneratedInstanceSupplier<T> implements InstanceSupplier<T> {
+
+  static final String SUFFIX = "$$Factory";
+
+  private final InstanceTypeRef[] required;
+  private final List<InstanceTypeRef> dependencies;
+  private final InstanceSupplier<?>[] unlinked;
+  private volatile Linked linked;
+  private ErrorReporter errorReporter = ErrorReporter.IGNORE;
+  private String binding;
+
+  protected GeneratedInstanceSupplier(InstanceTypeRef... required) {
+    this.required = required;
+    this.dependencies = stream(required).distinct().toList();
+    this.unlinked = stream(required).map(ref -> (InstanceSupplier<?>) container -> container.get(ref).get())
+                                    .toArray(InstanceSupplier<?>[]::new);
+    this.linked = new Linked(null, unlinked);
+  }
+
+  protected abstract T create(Container container) throws Throwable;
+
+  protected final Object dependency(int index, Container container) {
+    Linked current = linked;
+    if (current.owner() != null && current.owner() != container) {
+      return unlinked[index].get(container);
+    }
+    return current.suppliers()[index].get(container);
+  }
+
+  @Override
+  public final T get(Container container) {
+    if (!ContainerEvents.isRecording()) {
+      return instance(container);
+    }
+    ContainerEvents.InstanceCreation event = new ContainerEvents.InstanceCreation();
+    event.begin();
+    T instance = instance(container);
+    if (event.shouldCommit()) {
+      event.component = component();
+      event.binding = binding;
+      event.commit();
+    }
+    return instance;
+  }
+
+  private T instance(Container container) {
+    try {
+      return create(container);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      errorReporter.report(component(), dependencies, e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * 工厂可能通过组件索引创建，组件类只在需要报告错误或记录事件时按名称加载
+   */
+  private Class<?> component() {
+    String name = getClass().getName();
+    try {
+      return Class.forName(name.substring(0, name.length() - SUFFIX.length()), false, getClass().getClassLoader());
+    } catch (ClassNotFoundException e) {
+      return getClass();
+    }
+  }
+
+  @Override
+  public final List<InstanceTypeRef> dependencies() {
+    return dependencies;
+  }
+
+  /**
+   * 每个注入点一个，不去重
+   */
+  final List<InstanceTypeRef> required() {
+    return List.of(required);
+  }
+
+  @Override
+  public final void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+    linked = new Linked(ConfiguredContainer.Linker.owner(linker),
+                        stream(required).map(linker).toArray(InstanceSupplier<?>[]::new));
+  }
+
+  /**
+   * 与 InjectedInstanceSupplier 的 Plan 相同，链接的结果只用于 owner 容器
+   */
+  private record Linked(Container owner, InstanceSupplier<?>[] suppliers) {
+
+  }
+
+  /**
+   * 与 InjectedInstanceSupplier 相同，记录这个工厂服务的所有绑定的 key
+   */
+  final void bound(InstanceType type) {
+    binding = binding == null ? type.key() : binding + ", " + type.key();
+  }
+
+  final GeneratedInstanceSupplier<T> reportTo(ErrorReporter errorReporter) {
+    this.errorReporter = errorReporter;
+    return this;
+  }
+
+  /**
+   * 每个组件只按名称查找一次工厂，没有生成工厂的组件也只抛出一次 ClassNotFoundException
+   */
+  private static final ClassValue<Optional<Constructor<?>>> FACTORIES = new ClassValue<>() {
+    @Override
+    protected Optional<Constructor<?>> computeValue(Class<?> implementation) {
+      try {
+        Class<?> factory = Class.forName(implementation.getName() + SUFFIX, true, implementation.getClassLoader());
+        if (!GeneratedInstanceSupplier.class.isAssignableFrom(factory)) {
+          return Optional.empty();
+        }
+        return Optional.of(factory.getConstructor());
+      } catch (ClassNotFoundException e) {
+        return Optional.empty();
+      } catch (NoSuchMethodException e) {
+        throw new IllegalStateException("Failed to create generated factory of " + implementation.getName(), e);
+      }
+    }
+  };
+
+  @SuppressWarnings("unchecked")
+  static <T> Optional<GeneratedInstanceSupplier<T>> find(Class<T> implementation) {
+    Optional<Constructor<?>> factory = FACTORIES.get(implementation);
+    if (factory.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of((GeneratedInstanceSupplier<T>) factory.get().newInstance());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create generated factory of " + implementation.getName(), e);
+    }
+  }
+
+  /**
+   * 按组件索引中记录的工厂类名创建，不加载组件本身
+   */
+  static GeneratedInstanceSupplier<?> of(String factory, ClassLoader loader) {
+    try {
+      return (GeneratedInstanceSupplier<?>) Class.forName(factory, true, loader).getConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalStateException("Failed to create generated factory " + factory, e);
+    }
+  }
+}
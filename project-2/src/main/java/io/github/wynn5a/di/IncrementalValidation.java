@@ -0,0 +1,85 @@
+package io.github.wynn5a.di;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ContainerConfig 中绑定的增量校验。绑定只会增加或被替换，不会被删除，所以校验过的绑定的依赖不会再缺失；
+ * 新的循环只能经过新增或被替换的绑定，环上的每个绑定都直接或间接依赖它们。
+ * 因此每次只校验上次校验之后新增或被替换的绑定，以及沿反向边依赖它们的绑定（包括注入了它们所属类型的 Set / Map 的绑定），
+ * 反复 bind 和 getContainer() 的总耗时与绑定总数成线性关系，而不是每次都校验全部绑定
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class IncrementalValidation {
+
+  private final Set<InstanceType> changed = new LinkedHashSet<>();
+  private final Map<InstanceType, List<InstanceType>> dependents = new HashMap<>();
+  private final Map<Class<?>, List<InstanceType>> collectors = new HashMap<>();
+
+  void bound(InstanceType type) {
+    changed.add(type);
+  }
+
+  /**
+   * 校验失败时保留这些绑定，下次照常校验；返回本次校验的绑定数
+   */
+  int validate(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers, Multibindings multibindings) {
+    if (changed.isEmpty()) {
+      return 0;
+    }
+    record(instanceSuppliers);
+    List<InstanceType> affected = affected();
+    new DependencyGraph(instanceSuppliers, multibindings, affected).validate();
+    changed.clear();
+    return affected.size();
+  }
+
+  /**
+   * 绑定与一份校验过的快照一致，只记录反向边，不再校验
+   */
+  void trust(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers) {
+    record(instanceSuppliers);
+    changed.clear();
+  }
+
+  /**
+   * 之前失败的校验或被替换的绑定留下的边（包括重复的边）只会让受影响的范围变大，不影响结果
+   */
+  private void record(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers) {
+    for (InstanceType type : changed) {
+      for (InstanceTypeRef<?> dependency : instanceSuppliers.get(type).dependencies()) {
+        if (Multibindings.isMultibinding(dependency)) {
+          collectors.computeIfAbsent(dependency.instanceType().type(), t -> new ArrayList<>(2)).add(type);
+        } else {
+          dependents.computeIfAbsent(dependency.instanceType(), t -> new ArrayList<>(2)).add(type);
+        }
+      }
+    }
+  }
+
+  private List<InstanceType> affected() {
+    List<InstanceType> affected = new ArrayList<>(changed);
+    Set<InstanceType> found = new HashSet<>(changed);
+    for (int i = 0; i < affected.size(); i++) {
+      InstanceType type = affected.get(i);
+      for (InstanceType dependent : dependents.getOrDefault(type, List.of())) {
+        if (found.add(dependent)) {
+          affected.add(dependent);
+        }
+      }
+      for (InstanceType collector : collectors.getOrDefault(type.type(), List.of())) {
+        if (found.add(collector)) {
+          affected.add(collector);
+        }
+      }
+    }
+    return affected;
+  }
+}
@@ -3,16 +3,15 @@ package io.github.wynn5a.di;
 import static java.util.Arrays.stream;
 
 import io.github.wynn5a.di.exception.IllegalComponentException;
-import jakarta.inject.Qualifier;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +20,8 @@ import java.util.stream.Collectors;
  */
 public record Injectable<E extends AccessibleObject>(E element, InstanceTypeRef[] required) {
 
+  private static final Object[] NO_DEPENDENCIES = new Object[0];
+
   static <E extends Executable> Injectable<E> of(E constructor) {
     return new Injectable<>(constructor, stream(constructor.getParameters()).map(Injectable::toInstanceTypeRef)
                                                                             .toArray(InstanceTypeRef[]::new));
@@ -30,16 +31,29 @@ public record Injectable<E extends AccessibleObject>(E element, InstanceTypeRef[
   }
 
   private static InstanceTypeRef toInstanceTypeRef(Parameter p) {
+    if (p.isAnnotationPresent(Lazy.class)) {
+      return lazy(p.getParameterizedType(), getQualifier(p));
+    }
     return InstanceTypeRef.of(p.getParameterizedType(), getQualifier(p));
   }
 
   private static InstanceTypeRef toInstanceTypeRef(Field f) {
+    if (f.isAnnotationPresent(Lazy.class)) {
+      return lazy(f.getGenericType(), getQualifier(f));
+    }
     return InstanceTypeRef.of(f.getGenericType(), getQualifier(f));
   }
 
+  private static InstanceTypeRef lazy(Type type, Annotation qualifier) {
+    if (!(type instanceof Class<?> lazy) || !lazy.isInterface()) {
+      throw new IllegalComponentException("lazy dependency should be an interface: " + type.getTypeName());
+    }
+    return InstanceTypeRef.of(Lazy.class, lazy, qualifier);
+  }
+
   static Annotation getQualifier(AnnotatedElement annotated) {
     List<Annotation> annotations = stream(annotated.getAnnotations())
-        .filter(a -> a.annotationType().isAnnotationPresent(Qualifier.class)).toList();
+        .filter(AnnotationKind::isQualifier).toList();
     if (annotations.size() == 0) {
       return null;
     }
@@ -50,7 +64,18 @@ public record Injectable<E extends AccessibleObject>(E element, InstanceTypeRef[
     return annotations.get(0);
   }
 
-  Object[] getDependencies(Container container) {
-    return Arrays.stream(required).map(r -> container.get(r)).map(Optional::get).toArray();
+  InstanceSupplier<?>[] link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+    return stream(required).map(linker).toArray(InstanceSupplier<?>[]::new);
+  }
+
+  static Object[] getDependencies(Container container, InstanceSupplier<?>[] linked) {
+    if (linked.length == 0) {
+      return NO_DEPENDENCIES;
+    }
+    Object[] dependencies = new Object[linked.length];
+    for (int i = 0; i < linked.length; i++) {
+      dependencies[i] = linked[i].get(container);
+    }
+    return dependencies;
   }
 }
@@ -2,22 +2,12 @@ package io.github.wynn5a.di;
 
 import static java.util.Arrays.stream;
 
-import io.github.wynn5a.di.exception.IllegalComponentException;
-import io.github.wynn5a.di.exception.MultiInjectAnnotationFoundException;
-import jakarta.inject.Inject;
-import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 代码的重复，很多时候是逻辑重复的体现，寻找逻辑上面的重复，比直接看代码的重复要重要的多，因为有时候重复逻辑是用不同的方式实现的，代码上面并没有明显的重复
@@ -30,135 +20,117 @@ public class InjectedInstanceSupplier<T> implements InstanceSupplier<T> {
   private final Injectable<Constructor<T>> injectConstructor;
   private final List<Injectable<Field>> injectFields;
   private final List<Injectable<Method>> injectMethods;
+  private final List<InstanceTypeRef> required;
+  private final List<InstanceTypeRef> dependencies;
+  private final Injector<T> injector;
+  private final ErrorReporter errorReporter;
+  private final Plan unlinked;
+  private volatile Plan plan;
+  private String binding;
 
   public InjectedInstanceSupplier(Class<T> instanceType) {
-    instanceTypeShouldBeInstantiable(instanceType);
-
-    injectConstructor = getInjectConstructor(instanceType);
-    injectFields = getInjectFields(instanceType);
-    injectMethods = getInjectMethods(instanceType);
-
-    injectedFieldShouldNotBeFinal();
-    injectedMethodShouldNotHasTypeParameter();
+    this(instanceType, InjectionMode.COMPILED);
   }
 
-  private static <T> List<Injectable<Method>> getInjectMethods(Class<T> instanceType) {
-    List<Method> results = traverse(instanceType, (methods, current) -> injectable(current.getDeclaredMethods())
-        .filter(m -> !exists(methods, m))
-        .filter(m -> !isOverridden(instanceType, m, current))
-        .toList());
-    Collections.reverse(results);
-    return results.stream().map(Injectable::of).toList();
+  public InjectedInstanceSupplier(Class<T> instanceType, InjectionMode mode) {
+    this(instanceType, mode, ErrorReporter.IGNORE);
   }
 
-  private static <T> List<Injectable<Field>> getInjectFields(Class<T> instanceType) {
-    return InjectedInstanceSupplier.<Field>traverse(instanceType, (fields, current) -> injectable(current.getDeclaredFields()).toList())
-                                   .stream().map(Injectable::of).toList();
+  public InjectedInstanceSupplier(Class<T> instanceType, InjectionMode mode, ErrorReporter errorReporter) {
+    this.errorReporter = errorReporter;
+    InjectionPoints<T> injectionPoints = InjectionPoints.of(instanceType);
+    injectConstructor = injectionPoints.constructor;
+    injectFields = injectionPoints.fields;
+    injectMethods = injectionPoints.methods;
+    required = injectionPoints.required;
+    dependencies = injectionPoints.dependencies;
+    injector = injectionPoints.injector(mode);
+    unlinked = plan(null, ref -> container -> container.get(ref).get());
+    plan = unlinked;
   }
 
-  private static <T> Injectable<Constructor<T>> getInjectConstructor(Class<T> instanceType) {
-    List<Constructor<?>> allConstructors = injectable(instanceType.getDeclaredConstructors()).toList();
-    if (allConstructors.size() > 1) {
-      throw new MultiInjectAnnotationFoundException();
-    }
-    Constructor<T> constructor = (Constructor<T>) allConstructors.stream().findFirst()
-                                                                 .orElseGet(() -> getDefaultConstructor(instanceType));
-    constructor.setAccessible(true);
-    return Injectable.of(constructor);
+  /**
+   * 绑定时由 ContainerConfig 调用，以多个 qualifier 绑定的组件共享同一个 supplier，记录所有绑定的 key
+   */
+  void bound(InstanceType type) {
+    binding = binding == null ? type.key() : binding + ", " + type.key();
   }
 
+  /**
+   * 每次 getContainer() 都会重新链接，之前创建的容器获取这个组件时不再使用链接的结果，改为到自己当中查找依赖
+   */
   @Override
-  public T get(Container container) {
-    String deps = "";
-    try {
-      Object[] dependencies = injectConstructor.getDependencies(container);
-      deps = stream(dependencies).map(Object::toString).collect(Collectors.joining(", "));
-      T t = injectConstructor.element().newInstance(dependencies);
-      for (Injectable<Field> i : injectFields) {
-        Field f = i.element();
-        f.setAccessible(true);
-        f.set(t, i.getDependencies(container)[0]);
-      }
-      for (Injectable<Method> i : injectMethods) {
-        Method m = i.element();
-        m.setAccessible(true);
-        m.invoke(t, i.getDependencies(container));
-      }
-      return t;
-    } catch (Exception e) {
-      System.out.println(injectConstructor.element().getName());
-      System.out.println(deps);
-      throw new RuntimeException(e);
-    }
+  public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+    plan = plan(ConfiguredContainer.Linker.owner(linker), linker);
   }
 
-  @Override
-  public List<InstanceTypeRef> dependencies() {
-    return Stream.of(stream(injectConstructor.required()),
-                     injectFields.stream().map(Injectable::required).flatMap(Arrays::stream),
-                     injectMethods.stream().map(Injectable::required).flatMap(Arrays::stream))
-                 .flatMap(Function.identity())
-                 .distinct()
-                 .toList();
+  private Plan plan(Container owner, Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+    return new Plan(owner, injectConstructor.link(linker),
+                    injectFields.stream().map(i -> i.link(linker)[0]).toArray(InstanceSupplier<?>[]::new),
+                    injectMethods.stream().map(i -> i.link(linker)).toArray(InstanceSupplier<?>[][]::new));
   }
 
-  private void injectedFieldShouldNotBeFinal() {
-    injectFields.stream().map(Injectable::element).filter(f -> Modifier.isFinal(f.getModifiers())).findAny()
-                .ifPresent(f -> {
-                  throw new IllegalComponentException(
-                      "Field '" + f.getName() + "' is failed to inject because it is final");
-                });
-  }
+  /**
+   * 每个注入点所依赖的 supplier，下标与 injectFields / injectMethods 一致；owner 为空时对任何容器都有效
+   */
+  private record Plan(Container owner, InstanceSupplier<?>[] constructor, InstanceSupplier<?>[] fields, InstanceSupplier<?>[][] methods) {
 
-  private void injectedMethodShouldNotHasTypeParameter() {
-    injectMethods.stream().map(Injectable::element).filter(m -> m.getTypeParameters().length > 0).findAny()
-                 .ifPresent(m -> {
-                   throw new IllegalComponentException(
-                       "Method '" + m.getName() + "' is failed to inject because it has typed parameters");
-                 });
   }
 
-  private static <T> List<T> traverse(Class<?> instanceType, BiFunction<List<T>, Class<?>, List<T>> finder) {
-    List<T> results = new ArrayList<>();
-    Class<?> currentType = instanceType;
-    while (currentType != Object.class) {
-      results.addAll(finder.apply(results, currentType));
-      currentType = currentType.getSuperclass();
+  @Override
+  public T get(Container container) {
+    if (!ContainerEvents.isRecording()) {
+      return create(container);
+    }
+    ContainerEvents.InstanceCreation event = new ContainerEvents.InstanceCreation();
+    event.begin();
+    T instance = create(container);
+    if (event.shouldCommit()) {
+      event.component = injectConstructor.element().getDeclaringClass();
+      event.binding = binding;
+      event.commit();
     }
-    return results;
+    return instance;
   }
 
-  private static boolean isOverridden(Class<?> instanceType, Method method, Class<?> currentType) {
+  private T create(Container container) {
+    Plan plan = this.plan;
+    if (plan.owner() != null && plan.owner() != container) {
+      plan = unlinked;
+    }
     try {
-      Method m = instanceType.getDeclaredMethod(method.getName(), method.getParameterTypes());
-      return m.getDeclaringClass() != currentType;
-    } catch (NoSuchMethodException e) {
-      return false;
+      T t = injector.newInstance(Injectable.getDependencies(container, plan.constructor()));
+      for (int i = 0; i < plan.fields().length; i++) {
+        injector.setField(i, t, plan.fields()[i].get(container));
+      }
+      for (int i = 0; i < plan.methods().length; i++) {
+        InstanceSupplier<?>[] method = plan.methods()[i];
+        switch (method.length) {
+          case 0 -> injector.invoke(i, t);
+          case 1 -> injector.invoke(i, t, method[0].get(container));
+          default -> injector.invoke(i, t, Injectable.getDependencies(container, method));
+        }
+      }
+      return t;
+    } catch (Throwable e) {
+      // errors such as StackOverflowError propagate unchanged, reflection wraps them in InvocationTargetException
+      if ((e instanceof InvocationTargetException ? e.getCause() : e) instanceof Error error) {
+        throw error;
+      }
+      errorReporter.report(injectConstructor.element().getDeclaringClass(), dependencies, e);
+      throw new RuntimeException(e);
     }
   }
 
-  private static boolean exists(List<Method> results, Method method) {
-    return results.stream().anyMatch(m -> m.getName().equals(method.getName())
-        && Arrays.equals(m.getParameterTypes(), method.getParameterTypes()));
-  }
-
-  private static <T extends AnnotatedElement> Stream<T> injectable(T[] elements) {
-    return stream(elements).filter(f -> f.isAnnotationPresent(Inject.class));
-  }
-
-  private static <I> Constructor<I> getDefaultConstructor(Class<I> instanceType) {
-    try {
-      return instanceType.getDeclaredConstructor();
-    } catch (NoSuchMethodException e) {
-      throw new IllegalComponentException(e);
-    }
+  @Override
+  public List<InstanceTypeRef> dependencies() {
+    return dependencies;
   }
 
-  private static <T> void instanceTypeShouldBeInstantiable(Class<T> instanceType) {
-    // instance type should not be an interface or an abstract class
-    if (Modifier.isAbstract(instanceType.getModifiers())) {
-      throw new IllegalComponentException(
-          "Class '" + instanceType.getName() + "' is failed to inject because it is abstract");
-    }
+  /**
+   * 每个注入点一个，不去重
+   */
+  List<InstanceTypeRef> required() {
+    return required;
   }
 }
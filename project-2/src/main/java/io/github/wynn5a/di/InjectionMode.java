@@ -0,0 +1,17 @@
+package io.github.wynn5a.di;
+
+/**
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public enum InjectionMode {
+  /**
+   * 优先使用注解处理器生成的 {@link GeneratedInstanceSupplier}；没有生成的工厂时，在创建 {@link InjectedInstanceSupplier} 时把构造函数、字段和方法编译为
+   * MethodHandle，无法编译时退回到反射
+   */
+  COMPILED,
+  /**
+   * 每次创建组件时通过 Constructor.newInstance / Field.set / Method.invoke 完成注入
+   */
+  REFLECTIVE
+}
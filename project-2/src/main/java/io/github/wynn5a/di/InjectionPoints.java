@@ -0,0 +1,192 @@
+package io.github.wynn5a.di;
+
+import static java.util.Arrays.stream;
+
+import io.github.wynn5a.di.exception.IllegalComponentException;
+import io.github.wynn5a.di.exception.MultiInjectAnnotationFoundException;
+import jakarta.inject.Inject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 组件的注入点以及由它们编译出的 Injector，按组件类型缓存，所有 ContainerConfig 共享，每个类只扫描一次。
+ * 不合法的组件不会被缓存，每次创建都会抛出同样的异常
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class InjectionPoints<T> {
+
+  private static final Map<Class<?>, InjectionPoints<?>> PRELOADED = new ConcurrentHashMap<>();
+  private static final ClassValue<InjectionPoints<?>> CACHE = new ClassValue<>() {
+    @Override
+    protected InjectionPoints<?> computeValue(Class<?> type) {
+      ContainerEvents.ComponentScan event = new ContainerEvents.ComponentScan();
+      event.begin();
+      InjectionPoints<?> preloaded = PRELOADED.remove(type);
+      InjectionPoints<?> points = preloaded != null ? preloaded : new InjectionPoints<>(type);
+      if (event.shouldCommit()) {
+        event.component = type;
+        event.preloaded = preloaded != null;
+        event.commit();
+      }
+      return points;
+    }
+  };
+
+  final Injectable<Constructor<T>> constructor;
+  final List<Injectable<Field>> fields;
+  final List<Injectable<Method>> methods;
+  final List<InstanceTypeRef> required;
+  final List<InstanceTypeRef> dependencies;
+  private final Map<InjectionMode, Injector<T>> injectors = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  static <T> InjectionPoints<T> of(Class<T> instanceType) {
+    return (InjectionPoints<T>) CACHE.get(instanceType);
+  }
+
+  /**
+   * 使用 ContainerSnapshot 中记录的注入点，该类第一次被使用时不再扫描所有成员和注解，也不再检查。
+   * 注入点必须来自同一份字节码下的扫描结果，已经被使用过的类不受影响
+   */
+  static <T> void preload(Class<T> instanceType, Constructor<T> constructor, List<Field> fields, List<Method> methods) {
+    PRELOADED.put(instanceType, new InjectionPoints<>(constructor, fields, methods));
+  }
+
+  private InjectionPoints(Class<T> instanceType) {
+    instanceTypeShouldBeInstantiable(instanceType);
+
+    constructor = getInjectConstructor(instanceType);
+    fields = getInjectFields(instanceType);
+    methods = getInjectMethods(instanceType);
+
+    injectedFieldShouldNotBeFinal();
+    injectedMethodShouldNotHasTypeParameter();
+
+    required = required();
+    dependencies = required.stream().distinct().toList();
+  }
+
+  private InjectionPoints(Constructor<T> constructor, List<Field> fields, List<Method> methods) {
+    constructor.setAccessible(true);
+    this.constructor = Injectable.of(constructor);
+    this.fields = fields.stream().map(Injectable::of).toList();
+    this.methods = methods.stream().map(Injectable::of).toList();
+    required = required();
+    dependencies = required.stream().distinct().toList();
+  }
+
+  /**
+   * 按构造函数、字段、方法的顺序，每个注入点一个，同一个类型注入多次时重复出现
+   */
+  private List<InstanceTypeRef> required() {
+    return Stream.of(stream(constructor.required()),
+                     fields.stream().map(Injectable::required).flatMap(Arrays::stream),
+                     methods.stream().map(Injectable::required).flatMap(Arrays::stream))
+                 .flatMap(Function.identity())
+                 .toList();
+  }
+
+  Injector<T> injector(InjectionMode mode) {
+    return injectors.computeIfAbsent(mode, m -> Injector.of(m, constructor.element(),
+                                                            fields.stream().map(Injectable::element).toList(),
+                                                            methods.stream().map(Injectable::element).toList()));
+  }
+
+  /**
+   * 从父类到子类，被子类覆盖的方法只在声明它的子类中注入一次
+   */
+  private static <T> List<Injectable<Method>> getInjectMethods(Class<T> instanceType) {
+    Set<Signature> overridable = stream(instanceType.getDeclaredMethods()).map(Signature::of)
+                                                                          .collect(HashSet::new, Set::add, Set::addAll);
+    Set<Signature> found = new HashSet<>();
+    List<Method> results = new ArrayList<>();
+    for (Class<?> current = instanceType; current != Object.class; current = current.getSuperclass()) {
+      for (Method method : injectable(current.getDeclaredMethods()).toList()) {
+        Signature signature = Signature.of(method);
+        boolean overridden = current != instanceType && overridable.contains(signature);
+        if (!overridden && found.add(signature)) {
+          results.add(method);
+        }
+      }
+    }
+    Collections.reverse(results);
+    return results.stream().map(Injectable::of).toList();
+  }
+
+  private static <T> List<Injectable<Field>> getInjectFields(Class<T> instanceType) {
+    List<Injectable<Field>> results = new ArrayList<>();
+    for (Class<?> current = instanceType; current != Object.class; current = current.getSuperclass()) {
+      injectable(current.getDeclaredFields()).map(Injectable::of).forEach(results::add);
+    }
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Injectable<Constructor<T>> getInjectConstructor(Class<T> instanceType) {
+    List<Constructor<?>> allConstructors = injectable(instanceType.getDeclaredConstructors()).toList();
+    if (allConstructors.size() > 1) {
+      throw new MultiInjectAnnotationFoundException();
+    }
+    Constructor<T> constructor = (Constructor<T>) allConstructors.stream().findFirst()
+                                                                 .orElseGet(() -> getDefaultConstructor(instanceType));
+    constructor.setAccessible(true);
+    return Injectable.of(constructor);
+  }
+
+  private void injectedFieldShouldNotBeFinal() {
+    fields.stream().map(Injectable::element).filter(f -> Modifier.isFinal(f.getModifiers())).findAny()
+          .ifPresent(f -> {
+            throw new IllegalComponentException("Field '" + f.getName() + "' is failed to inject because it is final");
+          });
+  }
+
+  private void injectedMethodShouldNotHasTypeParameter() {
+    methods.stream().map(Injectable::element).filter(m -> m.getTypeParameters().length > 0).findAny()
+           .ifPresent(m -> {
+             throw new IllegalComponentException(
+                 "Method '" + m.getName() + "' is failed to inject because it has typed parameters");
+           });
+  }
+
+  private record Signature(String name, List<Class<?>> parameterTypes) {
+
+    static Signature of(Method method) {
+      return new Signature(method.getName(), List.of(method.getParameterTypes()));
+    }
+  }
+
+  private static <T extends AnnotatedElement> Stream<T> injectable(T[] elements) {
+    return stream(elements).filter(f -> f.isAnnotationPresent(Inject.class));
+  }
+
+  private static <I> Constructor<I> getDefaultConstructor(Class<I> instanceType) {
+    try {
+      return instanceType.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalComponentException(e);
+    }
+  }
+
+  private static <T> void instanceTypeShouldBeInstantiable(Class<T> instanceType) {
+    // instance type should not be an interface or an abstract class
+    if (Modifier.isAbstract(instanceType.getModifiers())) {
+      throw new IllegalComponentException(
+          "Class '" + instanceType.getName() + "' is failed to inject because it is abstract");
+    }
+  }
+}
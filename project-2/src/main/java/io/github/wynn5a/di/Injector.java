@@ -0,0 +1,42 @@
+package io.github.wynn5a.di;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 组件的构造、字段注入和方法注入动作，字段与方法按照 {@link InjectedInstanceSupplier} 中的顺序以下标访问
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+interface Injector<T> {
+
+  T newInstance(Object[] arguments) throws Throwable;
+
+  void setField(int index, Object instance, Object value) throws Throwable;
+
+  void invoke(int index, Object instance, Object[] arguments) throws Throwable;
+
+  /**
+   * 没有参数的注入方法，不需要分配参数数组
+   */
+  void invoke(int index, Object instance) throws Throwable;
+
+  /**
+   * 只有一个参数的注入方法，不需要分配参数数组
+   */
+  void invoke(int index, Object instance, Object argument) throws Throwable;
+
+  static <T> Injector<T> of(InjectionMode mode, Constructor<T> constructor, List<Field> fields, List<Method> methods) {
+    if (mode == InjectionMode.COMPILED) {
+      try {
+        return new CompiledInjector<>(constructor, fields, methods);
+      } catch (IllegalAccessException | RuntimeException e) {
+        // fall back to reflection when a method handle cannot be created for some member
+      }
+    }
+    return new ReflectiveInjector<>(constructor, fields, methods);
+  }
+}
@@ -3,6 +3,7 @@ package io.github.wynn5a.di;
 import static java.util.List.of;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * @author wynn5a
@@ -15,4 +16,10 @@ public interface InstanceSupplier<T> {
   default List<InstanceTypeRef> dependencies() {
     return of();
   }
+
+  /**
+   * 容器校验完依赖之后调用，linker 给出每个依赖对应的 supplier，实现可以直接持有它们而不必在每次创建时再到容器中查找
+   */
+  default void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+  }
 }
@@ -8,4 +8,10 @@ import java.lang.annotation.Annotation;
  */
 public record InstanceType(Class<?> type, Annotation qualifier) {
 
+  /**
+   * 类型名，有 qualifier 时加上 qualifier，用于快照、统计和报告中标识绑定
+   */
+  String key() {
+    return qualifier == null ? type.getName() : type.getName() + " " + qualifier;
+  }
 }
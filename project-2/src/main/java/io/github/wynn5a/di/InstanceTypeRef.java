@@ -15,6 +15,11 @@ public class InstanceTypeRef<T> {
 
   private InstanceType instanceType;
 
+  /**
+   * 最近一次在 BindingTable 中查找的结果，只是缓存，不参与 equals / hashCode
+   */
+  Slot slot;
+
   private InstanceTypeRef(ParameterizedType type) {
     init(type, null);
   }
@@ -36,11 +41,17 @@ public class InstanceTypeRef<T> {
     init(type, qualifier);
   }
 
+  private InstanceTypeRef(Class<?> containerType, Class<?> type, Annotation qualifier) {
+    this.containerType = containerType;
+    this.instanceType = new InstanceType(type, qualifier);
+  }
+
   private void init(Type type, Annotation qualifier) {
     if (type instanceof ParameterizedType) {
+      // Map<String, T> is keyed by name, the instance type is its last type argument
+      Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
       this.containerType = ((ParameterizedType) type).getRawType();
-      this.instanceType = new InstanceType((Class<T>) ((ParameterizedType) type).getActualTypeArguments()[0],
-          qualifier);
+      this.instanceType = new InstanceType((Class<T>) arguments[arguments.length - 1], qualifier);
     } else {
       this.containerType = null;
       this.instanceType = new InstanceType((Class<T>) type, qualifier);
@@ -68,6 +79,13 @@ public class InstanceTypeRef<T> {
     return new InstanceTypeRef<>(type, qualifier);
   }
 
+  /**
+   * 与 containerType&lt;type&gt; 这样的参数化类型等价，用于无法构造 ParameterizedType 的生成代码
+   */
+  public static <T> InstanceTypeRef<T> of(Class<?> containerType, Class<?> type, Annotation qualifier) {
+    return new InstanceTypeRef<>(containerType, type, qualifier);
+  }
+
   public Type getContainerType() {
     return containerType;
   }
@@ -98,6 +116,10 @@ public class InstanceTypeRef<T> {
     return Objects.hash(containerType, instanceType);
   }
 
+  record Slot(int table, int index) {
+
+  }
+
   @Override
   public String toString() {
     return "InstanceTypeRef{" +
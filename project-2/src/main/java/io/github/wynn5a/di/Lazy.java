@@ -0,0 +1,21 @@
+package io.github.wynn5a.di;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在接口类型的注入点上，注入的是一个代理，第一次调用它的方法时才从容器中获取真正的实例，之后的调用都转发给这个实例。
+ * 与 Provider 一样不构成依赖图中的边，可以用来打破构造函数之间的循环依赖，但依赖的绑定仍然必须存在
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Lazy {
+
+}
@@ -0,0 +1,73 @@
+package io.github.wynn5a.di;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Lazy} 注入点的代理。每个注入点得到自己的代理，第一次调用方法时通过 supplier 获取实例，与 singleton 一样使用双重检查和 ReentrantLock，只获取一次；
+ * 获取失败时不记录，下一次调用重新获取。equals / hashCode 按代理本身的引用比较，不会触发获取
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class LazyProxy implements InvocationHandler {
+
+  private final InstanceSupplier<?> supplier;
+  private final Container container;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile Object instance;
+
+  private LazyProxy(InstanceSupplier<?> supplier, Container container) {
+    this.supplier = supplier;
+    this.container = container;
+  }
+
+  static InstanceSupplier<?> supplier(Class<?> type, InstanceSupplier<?> supplier) {
+    return container -> Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                                               new LazyProxy(supplier, container));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          break;
+      }
+    }
+    Object target = instance();
+    if (!method.canAccess(target)) {
+      method.setAccessible(true);
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private Object instance() {
+    Object current = instance;
+    if (current != null) {
+      return current;
+    }
+    lock.lock();
+    try {
+      current = instance;
+      if (current == null) {
+        current = supplier.get(container);
+        instance = current;
+      }
+      return current;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package io.github.wynn5a.di;
+
+/**
+ * 从 {@link Pool} 借出的一个实例，close 时归还。一个 Lease 只属于借出它的调用者，不是线程安全的，close 之后不能再 get
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class Lease<T> implements AutoCloseable {
+
+  private final T instance;
+  private final PoolScope.Pooling<T> pool;
+  private boolean returned;
+
+  Lease(T instance, PoolScope.Pooling<T> pool) {
+    this.instance = instance;
+    this.pool = pool;
+  }
+
+  public T get() {
+    if (returned) {
+      throw new IllegalStateException("lease of " + instance.getClass().getName() + " has been returned");
+    }
+    return instance;
+  }
+
+  @Override
+  public void close() {
+    if (returned) {
+      return;
+    }
+    returned = true;
+    if (pool != null) {
+      pool.release(instance);
+    }
+  }
+}
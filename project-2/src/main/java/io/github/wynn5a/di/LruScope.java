@@ -0,0 +1,137 @@
+package io.github.wynn5a.di;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 最多缓存 maximumSize 个实例，每个绑定（类型和 qualifier 的组合）占一个位置，超出时淘汰近似最久没有被获取的实例。
+ * 访问时间是所有绑定共享的逻辑时钟，每次创建和刷新访问时间时前进一格；命中时只有访问时间落后超过 maximumSize 的 1/64 才刷新，
+ * 频繁获取的实例不需要读取系统时钟，也不会在每次命中时写入。
+ * 淘汰只在创建新实例之后发生，由一把淘汰锁保护：缓存的实例放在紧凑的数组中，不超过 SAMPLES 个时比较全部实例，否则随机抽取 SAMPLES 个，淘汰其中访问时间最早的一个
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class LruScope extends CachingScope {
+
+  private static final int SAMPLES = 8;
+
+  private final int maximumSize;
+  private final long granularity;
+  private final AtomicLong clock = new AtomicLong();
+  private final ReentrantLock eviction = new ReentrantLock();
+  private Lru<?>[] cached = new Lru<?>[4];
+  private volatile int size;
+
+  public LruScope(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+    this.granularity = Math.max(1, maximumSize >> 6);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public <I> InstanceSupplier<I> create(InstanceSupplier<I> supplier) {
+    return new Lru<>(supplier);
+  }
+
+  private void add(Lru<?> created) {
+    eviction.lock();
+    try {
+      if (size == cached.length) {
+        cached = Arrays.copyOf(cached, size * 2);
+      }
+      created.index = size;
+      cached[size] = created;
+      size = size + 1;
+      while (size > maximumSize) {
+        Lru<?> eldest = eldest(created);
+        remove(eldest);
+        eldest.instance = null;
+        evictions.increment();
+      }
+    } finally {
+      eviction.unlock();
+    }
+  }
+
+  /**
+   * 刚创建的实例不参与比较，size 大于 maximumSize 时至少还有一个候选
+   */
+  private Lru<?> eldest(Lru<?> created) {
+    Lru<?> eldest = null;
+    if (size <= SAMPLES + 1) {
+      for (int i = 0; i < size; i++) {
+        eldest = elder(eldest, cached[i], created);
+      }
+      return eldest;
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < SAMPLES || eldest == null; i++) {
+      eldest = elder(eldest, cached[random.nextInt(size)], created);
+    }
+    return eldest;
+  }
+
+  private static Lru<?> elder(Lru<?> eldest, Lru<?> candidate, Lru<?> created) {
+    if (candidate == created || eldest != null && candidate.lastAccess - eldest.lastAccess >= 0) {
+      return eldest;
+    }
+    return candidate;
+  }
+
+  private void remove(Lru<?> lru) {
+    Lru<?> last = cached[size - 1];
+    cached[lru.index] = last;
+    last.index = lru.index;
+    cached[size - 1] = null;
+    size = size - 1;
+  }
+
+  private final class Lru<T> extends Cached<T> {
+
+    private volatile T instance;
+    private volatile long lastAccess;
+    private int index;
+
+    Lru(InstanceSupplier<T> supplier) {
+      super(supplier);
+    }
+
+    @Override
+    public T get(Container container) {
+      T current = instance;
+      if (current != null) {
+        return access(current);
+      }
+      lock.lock();
+      try {
+        current = instance;
+        if (current != null) {
+          return access(current);
+        }
+        current = create(container);
+        lastAccess = clock.incrementAndGet();
+        instance = current;
+      } finally {
+        lock.unlock();
+      }
+      add(this);
+      return current;
+    }
+
+    private T access(T current) {
+      if (clock.get() - lastAccess >= granularity) {
+        lastAccess = clock.incrementAndGet();
+      }
+      return hit(current);
+    }
+  }
+}
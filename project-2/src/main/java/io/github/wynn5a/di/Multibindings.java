@@ -0,0 +1,93 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 注入 Set&lt;T&gt; 时得到所有类型为 T 的绑定（不论 qualifier），注入 Map&lt;String, T&gt; 时得到所有以 {@link Named} 绑定的 T，key 为其 value。
+ * 成员在 getContainer() 时按类型一次分好组，之后每次注入只遍历数组；以多个 qualifier 绑定的同一个 supplier 在 Set 中只出现一次。
+ * 注入点上的 qualifier 不参与匹配，没有任何绑定时得到空集合；{@link ContainerConfig#childBinding} 声明的绑定不是成员
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class Multibindings {
+
+  private static final Members EMPTY = Members.of(List.of(), Map.of());
+
+  private final Map<Class<?>, Members> members;
+
+  Multibindings(Map<InstanceType, InstanceSupplier<?>> instanceSuppliers) {
+    Map<Class<?>, List<InstanceType>> byType = new HashMap<>();
+    instanceSuppliers.forEach((type, supplier) -> {
+      if (!ChildBinding.isChildBinding(supplier)) {
+        byType.computeIfAbsent(type.type(), t -> new ArrayList<>()).add(type);
+      }
+    });
+    members = new HashMap<>(byType.size() * 2);
+    byType.forEach((type, types) -> members.put(type, Members.of(types, instanceSuppliers)));
+  }
+
+  static boolean isMultibinding(InstanceTypeRef<?> instanceTypeRef) {
+    return Set.class == instanceTypeRef.getContainerType() || Map.class == instanceTypeRef.getContainerType();
+  }
+
+  /**
+   * 注入该集合时会被创建的所有绑定
+   */
+  InstanceType[] members(InstanceTypeRef<?> instanceTypeRef) {
+    Members found = members.getOrDefault(instanceTypeRef.instanceType().type(), EMPTY);
+    return Set.class == instanceTypeRef.getContainerType() ? found.types() : found.namedTypes();
+  }
+
+  InstanceSupplier<?> supplier(InstanceTypeRef<?> instanceTypeRef) {
+    Members found = members.getOrDefault(instanceTypeRef.instanceType().type(), EMPTY);
+    return Set.class == instanceTypeRef.getContainerType() ? found::set : found::map;
+  }
+
+  private record Members(InstanceType[] types, InstanceSupplier<?>[] suppliers, InstanceType[] namedTypes,
+                         String[] names, InstanceSupplier<?>[] named) {
+
+    static Members of(List<InstanceType> types, Map<InstanceType, InstanceSupplier<?>> instanceSuppliers) {
+      Map<InstanceSupplier<?>, Boolean> distinct = new IdentityHashMap<>();
+      List<InstanceType> namedTypes = new ArrayList<>();
+      List<String> names = new ArrayList<>();
+      List<InstanceSupplier<?>> named = new ArrayList<>();
+      for (InstanceType type : types) {
+        InstanceSupplier<?> supplier = instanceSuppliers.get(type);
+        distinct.put(supplier, Boolean.TRUE);
+        if (type.qualifier() instanceof Named name) {
+          namedTypes.add(type);
+          names.add(name.value());
+          named.add(supplier);
+        }
+      }
+      return new Members(types.toArray(InstanceType[]::new), distinct.keySet().toArray(InstanceSupplier<?>[]::new),
+                         namedTypes.toArray(InstanceType[]::new), names.toArray(String[]::new),
+                         named.toArray(InstanceSupplier<?>[]::new));
+    }
+
+    Set<Object> set(Container container) {
+      Object[] instances = new Object[suppliers.length];
+      for (int i = 0; i < suppliers.length; i++) {
+        instances[i] = suppliers[i].get(container);
+      }
+      return Set.copyOf(Arrays.asList(instances));
+    }
+
+    Map<String, Object> map(Container container) {
+      @SuppressWarnings("unchecked")
+      Map.Entry<String, Object>[] entries = new Map.Entry[names.length];
+      for (int i = 0; i < names.length; i++) {
+        entries[i] = Map.entry(names[i], named[i].get(container));
+      }
+      return Map.ofEntries(entries);
+    }
+  }
+}
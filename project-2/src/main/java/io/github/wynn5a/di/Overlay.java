@@ -0,0 +1,34 @@
+package io.github.wynn5a.di;
+
+import static java.util.Arrays.stream;
+
+import io.github.wynn5a.di.exception.IllegalQualifierException;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 子容器在父容器之上叠加的实例绑定，例如当前用户、trace 上下文。只包含实例，不需要扫描和校验，创建子容器的开销只和绑定的数量有关
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class Overlay {
+
+  final Map<InstanceType, Object> instances = new HashMap<>();
+
+  public <T> Overlay bind(Class<T> type, T instance, Annotation... qualifiers) {
+    Objects.requireNonNull(instance);
+    if (stream(qualifiers).anyMatch(q -> !AnnotationKind.isQualifier(q))) {
+      throw new IllegalQualifierException();
+    }
+    if (qualifiers.length == 0) {
+      instances.put(new InstanceType(type, null), instance);
+    }
+    for (Annotation qualifier : qualifiers) {
+      instances.put(new InstanceType(type, qualifier), instance);
+    }
+    return this;
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.wynn5a.di;
+
+import jakarta.inject.Provider;
+
+/**
+ * 以 Pool&lt;T&gt; 注入或获取时得到的 Provider，每次 get 借出一个 {@link Lease}。
+ * 组件绑定在 {@link PoolScope} 上时从池中借出、close 时归还；其他绑定每次创建（或取得 singleton）一个实例，close 不做任何事
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public interface Pool<T> extends Provider<Lease<T>> {
+
+}
@@ -0,0 +1,120 @@
+package io.github.wynn5a.di;
+
+import io.github.wynn5a.di.exception.IllegalComponentException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 复用非线程安全组件的 scope，通过 {@link ContainerConfig#scope(Class, ScopeSupplier)} 注册到自定义的 scope 注解上，组件以 {@link Pool} 注入后借出 {@link Lease}，用完 close 归还。
+ * 每个绑定最多保留 capacity 个空闲实例，放在一个定长的 AtomicReferenceArray 中，借出和归还只做 CAS，不加锁；每个线程从按线程编号确定的位置开始探测，
+ * 线程较少时通常总是取回自己上一次归还的实例。池中没有空闲实例时创建新的实例，池满时归还的实例直接丢弃。
+ * capacity 只限制空闲实例的数量，同时借出的实例没有上限，借出时总能得到实例而不会等待。
+ * reset 在归还的线程上、放回池之前调用，抛出异常时实例不再放回。实例只能通过 Pool 借出：直接注入 T 或 Provider / Supplier 等依赖在校验时报错，
+ * 直接获取时抛出 IllegalComponentException，这样取出的实例不会再归还
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class PoolScope implements ScopeSupplier {
+
+  private final int capacity;
+  private final Consumer<Object> reset;
+
+  public PoolScope(int capacity) {
+    this(capacity, instance -> {
+    });
+  }
+
+  public PoolScope(int capacity, Consumer<Object> reset) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.reset = reset;
+  }
+
+  @Override
+  public <I> InstanceSupplier<I> create(InstanceSupplier<I> supplier) {
+    return new Pooling<>(supplier);
+  }
+
+  static boolean isPooled(InstanceSupplier<?> supplier) {
+    return ContainerMetrics.scoped(supplier) instanceof Pooling<?>;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Pool<T> pool(InstanceSupplier<T> supplier, Container container) {
+    if (ContainerMetrics.scoped(supplier) instanceof Pooling<?> pooling) {
+      return () -> ((Pooling<T>) pooling).borrow(container);
+    }
+    return () -> new Lease<>(supplier.get(container), null);
+  }
+
+  final class Pooling<T> implements InstanceSupplier<T> {
+
+    private final InstanceSupplier<T> supplier;
+    private final AtomicReferenceArray<T> free = new AtomicReferenceArray<>(capacity);
+
+    Pooling(InstanceSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    Lease<T> borrow(Container container) {
+      return new Lease<>(take(container), this);
+    }
+
+    @Override
+    public T get(Container container) {
+      throw new IllegalComponentException("Pooled components can only be borrowed through Pool<T>");
+    }
+
+    private T take(Container container) {
+      int home = home();
+      for (int i = 0; i < capacity; i++) {
+        int index = (home + i) % capacity;
+        T instance = free.get(index);
+        if (instance != null && free.compareAndSet(index, instance, null)) {
+          return instance;
+        }
+      }
+      return supplier.get(container);
+    }
+
+    void release(T instance) {
+      reset.accept(instance);
+      int home = home();
+      for (int i = 0; i < capacity; i++) {
+        int index = (home + i) % capacity;
+        if (free.get(index) == null && free.compareAndSet(index, null, instance)) {
+          return;
+        }
+      }
+    }
+
+    int available() {
+      int available = 0;
+      for (int i = 0; i < capacity; i++) {
+        if (free.get(i) != null) {
+          available++;
+        }
+      }
+      return available;
+    }
+
+    private int home() {
+      return (int) ((Thread.currentThread().getId() & Integer.MAX_VALUE) % capacity);
+    }
+
+    @Override
+    public List<InstanceTypeRef> dependencies() {
+      return supplier.dependencies();
+    }
+
+    @Override
+    public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      supplier.link(linker);
+    }
+  }
+}
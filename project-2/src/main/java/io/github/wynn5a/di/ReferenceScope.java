@@ -0,0 +1,69 @@
+package io.github.wynn5a.di;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.function.Function;
+
+/**
+ * 通过软引用或弱引用持有的 singleton：soft 在内存紧张时才会被回收，weak 在没有其他地方持有实例时即可被回收，回收之后的下一次获取重新创建
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ReferenceScope extends CachingScope {
+
+  private final Function<Object, Reference<Object>> reference;
+
+  private ReferenceScope(Function<Object, Reference<Object>> reference) {
+    this.reference = reference;
+  }
+
+  public static ReferenceScope soft() {
+    return new ReferenceScope(SoftReference::new);
+  }
+
+  public static ReferenceScope weak() {
+    return new ReferenceScope(WeakReference::new);
+  }
+
+  @Override
+  public <I> InstanceSupplier<I> create(InstanceSupplier<I> supplier) {
+    return new Referenced<>(supplier);
+  }
+
+  private final class Referenced<T> extends Cached<T> {
+
+    private volatile Reference<Object> instance;
+
+    Referenced(InstanceSupplier<T> supplier) {
+      super(supplier);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(Container container) {
+      Reference<Object> current = instance;
+      Object cached = current == null ? null : current.get();
+      if (cached != null) {
+        return hit((T) cached);
+      }
+      lock.lock();
+      try {
+        current = instance;
+        cached = current == null ? null : current.get();
+        if (cached != null) {
+          return hit((T) cached);
+        }
+        if (current != null) {
+          evictions.increment();
+        }
+        T created = create(container);
+        instance = reference.apply(created);
+        return created;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
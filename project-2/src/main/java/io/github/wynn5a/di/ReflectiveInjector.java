@@ -0,0 +1,55 @@
+package io.github.wynn5a.di;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class ReflectiveInjector<T> implements Injector<T> {
+
+  private final Constructor<T> constructor;
+  private final Field[] fields;
+  private final Method[] methods;
+
+  ReflectiveInjector(Constructor<T> constructor, List<Field> fields, List<Method> methods) {
+    this.constructor = constructor;
+    this.fields = fields.toArray(Field[]::new);
+    this.methods = methods.toArray(Method[]::new);
+    constructor.setAccessible(true);
+    for (Field field : this.fields) {
+      field.setAccessible(true);
+    }
+    for (Method method : this.methods) {
+      method.setAccessible(true);
+    }
+  }
+
+  @Override
+  public T newInstance(Object[] arguments) throws Exception {
+    return constructor.newInstance(arguments);
+  }
+
+  @Override
+  public void setField(int index, Object instance, Object value) throws Exception {
+    fields[index].set(instance, value);
+  }
+
+  @Override
+  public void invoke(int index, Object instance, Object[] arguments) throws Exception {
+    methods[index].invoke(instance, arguments);
+  }
+
+  @Override
+  public void invoke(int index, Object instance) throws Exception {
+    methods[index].invoke(instance);
+  }
+
+  @Override
+  public void invoke(int index, Object instance, Object argument) throws Exception {
+    methods[index].invoke(instance, argument);
+  }
+}
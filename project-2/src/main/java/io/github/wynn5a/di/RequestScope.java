@@ -0,0 +1,29 @@
+package io.github.wynn5a.di;
+
+import io.github.wynn5a.di.exception.OutOfScopeException;
+
+/**
+ * {@link RequestScoped} 的实现。enter 进入一个新的请求，返回的 ScopeContext 关闭时退出并释放请求中创建的对象，可以嵌套
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class RequestScope extends SlotScope {
+
+  private final ThreadLocal<ScopeContext> current = new ThreadLocal<>();
+
+  public ScopeContext enter() {
+    ScopeContext context = new ScopeContext(current, current.get(), slots());
+    current.set(context);
+    return context;
+  }
+
+  @Override
+  ScopeContext current() {
+    ScopeContext context = current.get();
+    if (context == null) {
+      throw new OutOfScopeException("No request scope is active on " + Thread.currentThread().getName());
+    }
+    return context;
+  }
+}
@@ -0,0 +1,19 @@
+package io.github.wynn5a.di;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.inject.Scope;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+
+/**
+ * @author wynn5a
+ * @date 2026/10/18
+ * @see RequestScope
+ */
+@Scope
+@Documented
+@Retention(RUNTIME)
+public @interface RequestScoped {
+
+}
@@ -0,0 +1,126 @@
+package io.github.wynn5a.di;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * scope 的一个实例，保存其中创建的对象。关闭时按创建的逆序关闭其中实现了 AutoCloseable 的对象，并恢复进入之前的 scope。
+ * 同一个 scope 可以通过 run / call 交给其他线程使用
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ScopeContext implements AutoCloseable {
+
+  private final ThreadLocal<ScopeContext> holder;
+  private final ScopeContext previous;
+  private final ReentrantLock lock = new ReentrantLock();
+  private Object[] instances;
+  private int[] created;
+  private int count;
+  private boolean closed;
+
+  ScopeContext(ThreadLocal<ScopeContext> holder, ScopeContext previous, int slots) {
+    this.holder = holder;
+    this.previous = previous;
+    this.instances = new Object[slots];
+    this.created = new int[slots];
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T get(int slot, Container container, InstanceSupplier<T> supplier) {
+    lock.lock();
+    try {
+      if (closed) {
+        throw new IllegalStateException("Scope is already closed");
+      }
+      if (slot >= instances.length) {
+        int length = Math.max(slot + 1, instances.length * 2);
+        instances = Arrays.copyOf(instances, length);
+        created = Arrays.copyOf(created, length);
+      }
+      Object instance = instances[slot];
+      if (instance == null) {
+        instance = supplier.get(container);
+        instances[slot] = instance;
+        created[count++] = slot;
+      }
+      return (T) instance;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void run(Runnable task) {
+    ScopeContext current = holder.get();
+    holder.set(this);
+    try {
+      task.run();
+    } finally {
+      restore(current);
+    }
+  }
+
+  public <V> V call(Callable<V> task) throws Exception {
+    ScopeContext current = holder.get();
+    holder.set(this);
+    try {
+      return task.call();
+    } finally {
+      restore(current);
+    }
+  }
+
+  /**
+   * 退出 scope 并释放其中所有的对象，应该在进入 scope 的线程上调用
+   */
+  @Override
+  public void close() {
+    if (holder.get() == this) {
+      restore(previous);
+    }
+    Object[] disposing;
+    int[] order;
+    int disposed;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      disposing = instances;
+      order = created;
+      disposed = count;
+      instances = null;
+      created = null;
+    } finally {
+      lock.unlock();
+    }
+    RuntimeException failure = null;
+    for (int i = disposed - 1; i >= 0; i--) {
+      if (disposing[order[i]] instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          if (failure == null) {
+            failure = new IllegalStateException("Failed to dispose scoped instances", e);
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void restore(ScopeContext context) {
+    if (context == null) {
+      holder.remove();
+    } else {
+      holder.set(context);
+    }
+  }
+}
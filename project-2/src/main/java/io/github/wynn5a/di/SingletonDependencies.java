@@ -0,0 +1,57 @@
+package io.github.wynn5a.di;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 每个 supplier 在创建时会用到的、离它最近的 singleton：遇到 prototype 时继续向下查找，Set / Map 依赖展开为它的所有成员，
+ * Provider / Supplier 等依赖不会在创建时被调用，所以不计入。
+ * 结果按 supplier 缓存，可以在多个线程中使用
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+final class SingletonDependencies {
+
+  private final Map<InstanceType, InstanceSupplier<?>> suppliers;
+  private final Multibindings multibindings;
+  private final Map<InstanceSupplier<?>, Set<InstanceSupplier<?>>> nearest = new ConcurrentHashMap<>();
+
+  SingletonDependencies(Map<InstanceType, InstanceSupplier<?>> suppliers, Multibindings multibindings) {
+    this.suppliers = suppliers;
+    this.multibindings = multibindings;
+  }
+
+  Set<InstanceSupplier<?>> of(InstanceSupplier<?> supplier) {
+    Set<InstanceSupplier<?>> found = nearest.get(supplier);
+    if (found != null) {
+      return found;
+    }
+    found = new LinkedHashSet<>();
+    for (InstanceTypeRef dependency : supplier.dependencies()) {
+      if (Multibindings.isMultibinding(dependency)) {
+        for (InstanceType member : multibindings.members(dependency)) {
+          add(found, suppliers.get(member));
+        }
+      } else if (!dependency.isContainerType()) {
+        add(found, suppliers.get(dependency.instanceType()));
+      }
+    }
+    nearest.put(supplier, found);
+    return found;
+  }
+
+  private void add(Set<InstanceSupplier<?>> found, InstanceSupplier<?> dependency) {
+    if (isSingleton(dependency)) {
+      found.add(dependency);
+    } else {
+      found.addAll(of(dependency));
+    }
+  }
+
+  static boolean isSingleton(InstanceSupplier<?> supplier) {
+    return supplier instanceof SingletonInstanceSupplier<?> || ContainerMetrics.isSingleton(supplier);
+  }
+}
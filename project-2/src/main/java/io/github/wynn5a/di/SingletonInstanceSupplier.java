@@ -1,15 +1,20 @@
 package io.github.wynn5a.di;
 
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 /**
+ * 初始化之后只有一次 volatile 读；初始化时使用每个绑定自己的锁，不同的 singleton 之间互不阻塞。 使用 ReentrantLock 而不是 synchronized，构造函数较慢时虚拟线程不会被钉在载体线程上
+ *
  * @author wynn5a
  * @date 2022/7/28
  */
 public class SingletonInstanceSupplier<T> implements InstanceSupplier<T> {
 
   private final InstanceSupplier<T> supplier;
-  private T singleton;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile T singleton;
 
   public SingletonInstanceSupplier(InstanceSupplier<T> supplier) {
     this.supplier = supplier;
@@ -17,14 +22,36 @@ public class SingletonInstanceSupplier<T> implements InstanceSupplier<T> {
 
   @Override
   public T get(Container container) {
-    if (singleton == null){
-      singleton = supplier.get(container);
+    T instance = singleton;
+    if (instance != null) {
+      return instance;
+    }
+    ContainerEvents.SingletonInitialization event = new ContainerEvents.SingletonInitialization();
+    event.begin();
+    lock.lock();
+    try {
+      instance = singleton;
+      if (instance == null) {
+        instance = supplier.get(container);
+        singleton = instance;
+        if (event.shouldCommit()) {
+          event.component = instance.getClass();
+          event.commit();
+        }
+      }
+      return instance;
+    } finally {
+      lock.unlock();
     }
-    return singleton;
   }
 
   @Override
   public List<InstanceTypeRef> dependencies() {
     return supplier.dependencies();
   }
+
+  @Override
+  public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+    supplier.link(linker);
+  }
 }
@@ -0,0 +1,56 @@
+package io.github.wynn5a.di;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 按槽位保存实例的 scope：创建 supplier 时为每个绑定分配一个槽位，scope 的每个实例只是一个按槽位索引的数组，不需要以绑定为 key 的 Map
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+abstract class SlotScope implements ScopeSupplier {
+
+  private final AtomicInteger slots = new AtomicInteger();
+
+  @Override
+  public <I> InstanceSupplier<I> create(InstanceSupplier<I> supplier) {
+    return new Scoped<>(slots.getAndIncrement(), supplier);
+  }
+
+  /**
+   * 当前线程所在的 scope，不在 scope 中时抛出 OutOfScopeException
+   */
+  abstract ScopeContext current();
+
+  int slots() {
+    return slots.get();
+  }
+
+  private final class Scoped<T> implements InstanceSupplier<T> {
+
+    private final int slot;
+    private final InstanceSupplier<T> supplier;
+
+    Scoped(int slot, InstanceSupplier<T> supplier) {
+      this.slot = slot;
+      this.supplier = supplier;
+    }
+
+    @Override
+    public T get(Container container) {
+      return current().get(slot, container, supplier);
+    }
+
+    @Override
+    public List<InstanceTypeRef> dependencies() {
+      return supplier.dependencies();
+    }
+
+    @Override
+    public void link(Function<InstanceTypeRef, InstanceSupplier<?>> linker) {
+      supplier.link(linker);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package io.github.wynn5a.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一次 {@link EagerStart} 的关键路径分析。每个 singleton 是一个节点，权重为它的构造耗时，边来自它在创建时（直接或经由 prototype 间接）依赖的 singleton。
+ * 最早开始时间是所有依赖的最早完成时间中的最大值，关键路径是完成时间最晚的那条依赖链，它决定了并发启动的最短耗时；
+ * slack 是节点在不推迟整体启动的前提下可以推迟的时间，关键路径上的节点为 0，只有缩短它们（改为延迟创建或拆开依赖）才能加快启动
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class StartupReport {
+
+  private static final Map<Character, String> ESCAPES = Map.of('"', "\\\"", '\\', "\\\\", '\n', "\\n", '\r', "\\r",
+                                                              '\t', "\\t");
+
+  private final List<Entry> entries;
+  private final List<Entry> criticalPath;
+  private final Duration length;
+
+  /**
+   * 一个 singleton，以它所有绑定中 key 最小的一个命名，dependencies 为它直接等待的 singleton 的名字
+   */
+  public record Entry(String name, List<InstanceType> bindings, Duration duration, Duration earliestStart,
+                      Duration slack, List<String> dependencies) {
+
+    public Duration earliestFinish() {
+      return earliestStart.plus(duration);
+    }
+
+    public boolean critical() {
+      return slack.isZero();
+    }
+  }
+
+  private StartupReport(List<Entry> entries, List<Entry> criticalPath, Duration length) {
+    this.entries = entries;
+    this.criticalPath = criticalPath;
+    this.length = length;
+  }
+
+  static StartupReport of(Map<InstanceSupplier<?>, List<InstanceType>> bindings,
+                          Map<InstanceSupplier<?>, Duration> durations, SingletonDependencies nearest) {
+    List<InstanceSupplier<?>> order = new ArrayList<>(durations.size());
+    Set<InstanceSupplier<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    durations.keySet().stream().sorted(Comparator.comparing(s -> name(bindings.get(s))))
+             .forEach(singleton -> visit(singleton, nearest, visited, order));
+
+    Map<InstanceSupplier<?>, Long> earliestStart = new IdentityHashMap<>();
+    Map<InstanceSupplier<?>, Long> earliestFinish = new IdentityHashMap<>();
+    long length = 0;
+    for (InstanceSupplier<?> singleton : order) {
+      long start = 0;
+      for (InstanceSupplier<?> dependency : nearest.of(singleton)) {
+        start = Math.max(start, earliestFinish.get(dependency));
+      }
+      long finish = start + durations.get(singleton).toNanos();
+      earliestStart.put(singleton, start);
+      earliestFinish.put(singleton, finish);
+      length = Math.max(length, finish);
+    }
+
+    Map<InstanceSupplier<?>, Long> latestStart = new IdentityHashMap<>();
+    Map<InstanceSupplier<?>, Long> latestFinish = new IdentityHashMap<>();
+    for (int i = order.size() - 1; i >= 0; i--) {
+      InstanceSupplier<?> singleton = order.get(i);
+      long finish = latestFinish.getOrDefault(singleton, length);
+      long start = finish - durations.get(singleton).toNanos();
+      latestStart.put(singleton, start);
+      for (InstanceSupplier<?> dependency : nearest.of(singleton)) {
+        latestFinish.merge(dependency, start, Math::min);
+      }
+    }
+
+    Map<InstanceSupplier<?>, Entry> entries = new IdentityHashMap<>();
+    List<Entry> all = new ArrayList<>(order.size());
+    for (InstanceSupplier<?> singleton : order) {
+      Entry entry = new Entry(name(bindings.get(singleton)), List.copyOf(bindings.get(singleton)),
+                              durations.get(singleton), Duration.ofNanos(earliestStart.get(singleton)),
+                              Duration.ofNanos(latestStart.get(singleton) - earliestStart.get(singleton)),
+                              nearest.of(singleton).stream().map(d -> name(bindings.get(d))).sorted().toList());
+      entries.put(singleton, entry);
+      all.add(entry);
+    }
+    return new StartupReport(List.copyOf(all), criticalPath(order, nearest, earliestFinish, entries),
+                             Duration.ofNanos(length));
+  }
+
+  private static void visit(InstanceSupplier<?> singleton, SingletonDependencies nearest,
+                            Set<InstanceSupplier<?>> visited, List<InstanceSupplier<?>> order) {
+    if (visited.add(singleton)) {
+      nearest.of(singleton).forEach(dependency -> visit(dependency, nearest, visited, order));
+      order.add(singleton);
+    }
+  }
+
+  /**
+   * 从完成最晚的节点开始，每次回到完成最晚的依赖
+   */
+  private static List<Entry> criticalPath(List<InstanceSupplier<?>> order, SingletonDependencies nearest,
+                                          Map<InstanceSupplier<?>, Long> earliestFinish,
+                                          Map<InstanceSupplier<?>, Entry> entries) {
+    Comparator<InstanceSupplier<?>> byFinish = Comparator.comparing(earliestFinish::get);
+    InstanceSupplier<?> current = order.stream().max(byFinish).orElse(null);
+    List<Entry> path = new ArrayList<>();
+    while (current != null) {
+      path.add(entries.get(current));
+      current = nearest.of(current).stream().max(byFinish).orElse(null);
+    }
+    Collections.reverse(path);
+    return List.copyOf(path);
+  }
+
+  private static String name(List<InstanceType> bindings) {
+    return bindings.stream().map(InstanceType::key).min(Comparator.naturalOrder()).orElseThrow();
+  }
+
+  /**
+   * 所有 singleton，每个都排在它的依赖之后
+   */
+  public List<Entry> entries() {
+    return entries;
+  }
+
+  /**
+   * 关键路径，从最先创建的 singleton 开始
+   */
+  public List<Entry> criticalPath() {
+    return criticalPath;
+  }
+
+  /**
+   * 关键路径的总耗时，即依赖图允许的最短启动时间
+   */
+  public Duration length() {
+    return length;
+  }
+
+  /**
+   * 时间以纳秒为单位
+   */
+  public String toJson() {
+    StringBuilder json = new StringBuilder();
+    json.append("{\n  \"lengthNanos\": ").append(length.toNanos()).append(",\n  \"criticalPath\": [");
+    json.append(String.join(", ", criticalPath.stream().map(e -> quote(e.name())).toList()));
+    json.append("],\n  \"bindings\": [");
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      json.append(i == 0 ? "\n" : ",\n");
+      json.append("    {\"name\": ").append(quote(entry.name()))
+          .append(", \"durationNanos\": ").append(entry.duration().toNanos())
+          .append(", \"earliestStartNanos\": ").append(entry.earliestStart().toNanos())
+          .append(", \"slackNanos\": ").append(entry.slack().toNanos())
+          .append(", \"critical\": ").append(entry.critical())
+          .append(", \"dependencies\": [")
+          .append(String.join(", ", entry.dependencies().stream().map(StartupReport::quote).toList()))
+          .append("]}");
+    }
+    json.append(entries.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+    return json.toString();
+  }
+
+  /**
+   * 边从依赖指向依赖它的 singleton，即创建的先后顺序，关键路径上的节点和边标为红色
+   */
+  public String toDot() {
+    Set<String> critical = new HashSet<>();
+    criticalPath.forEach(entry -> critical.add(entry.name()));
+    Set<String> criticalEdges = new LinkedHashSet<>();
+    for (int i = 1; i < criticalPath.size(); i++) {
+      criticalEdges.add(criticalPath.get(i - 1).name() + "\n" + criticalPath.get(i).name());
+    }
+    StringBuilder dot = new StringBuilder("digraph startup {\n  rankdir=LR;\n  node [shape=box];\n");
+    for (Entry entry : entries) {
+      dot.append("  ").append(quote(entry.name())).append(" [label=").append(quote(label(entry)))
+         .append(critical.contains(entry.name()) ? ", color=red" : "").append("];\n");
+    }
+    for (Entry entry : entries) {
+      for (String dependency : entry.dependencies()) {
+        dot.append("  ").append(quote(dependency)).append(" -> ").append(quote(entry.name()))
+           .append(criticalEdges.contains(dependency + "\n" + entry.name()) ? " [color=red]" : "").append(";\n");
+      }
+    }
+    return dot.append("}\n").toString();
+  }
+
+  private static String label(Entry entry) {
+    return "%s\n%.3f ms, slack %.3f ms".formatted(entry.name(), entry.duration().toNanos() / 1e6,
+                                                  entry.slack().toNanos() / 1e6);
+  }
+
+  /**
+   * JSON 和 DOT 的字符串转义规则在这里用到的字符上一致
+   */
+  private static String quote(String value) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      String escape = ESCAPES.get(c);
+      if (escape != null) {
+        quoted.append(escape);
+      } else if (c < 0x20) {
+        quoted.append("\\u%04x".formatted((int) c));
+      } else {
+        quoted.append(c);
+      }
+    }
+    return quoted.append('"').toString();
+  }
+}
@@ -0,0 +1,29 @@
+package io.github.wynn5a.di;
+
+/**
+ * {@link ThreadScoped} 的实现，每个线程第一次获取时自动进入，dispose 释放当前线程中创建的对象
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public final class ThreadScope extends SlotScope {
+
+  private final ThreadLocal<ScopeContext> current = new ThreadLocal<>();
+
+  public void dispose() {
+    ScopeContext context = current.get();
+    if (context != null) {
+      context.close();
+    }
+  }
+
+  @Override
+  ScopeContext current() {
+    ScopeContext context = current.get();
+    if (context == null) {
+      context = new ScopeContext(current, null, slots());
+      current.set(context);
+    }
+    return context;
+  }
+}
@@ -2,6 +2,7 @@ package io.github.wynn5a.di.exception;
 
 import io.github.wynn5a.di.InstanceType;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.Stack;
 import java.util.stream.Collectors;
@@ -12,12 +13,27 @@ import java.util.stream.Collectors;
  */
 public class CyclicDependencyFoundException extends RuntimeException {
   private final Set<Class<?>> dependencies = new HashSet<>();
+  private final List<List<InstanceType>> cycles;
 
   public CyclicDependencyFoundException(Stack<InstanceType> dependencies) {
-    this.dependencies.addAll(dependencies.stream().map(InstanceType::type).collect(Collectors.toSet()));
+    this(List.of(List.copyOf(dependencies)));
+  }
+
+  /**
+   * @param cycles 每个循环是一条有序的路径，首尾为同一个组件，例如 a -> b -> a
+   */
+  public CyclicDependencyFoundException(List<List<InstanceType>> cycles) {
+    super(cycles.stream().map(c -> c.stream().map(InstanceType::toString).collect(Collectors.joining(" -> ")))
+                .collect(Collectors.joining("\n", "Cyclic dependencies found:\n", "")));
+    this.cycles = cycles;
+    cycles.forEach(c -> c.forEach(d -> this.dependencies.add(d.type())));
   }
 
   public Set<Class<?>> getDependencies() {
     return dependencies;
   }
+
+  public List<List<InstanceType>> getCycles() {
+    return cycles;
+  }
 }
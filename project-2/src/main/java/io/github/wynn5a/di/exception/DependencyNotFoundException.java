@@ -1,7 +1,9 @@
 package io.github.wynn5a.di.exception;
 
 import io.github.wynn5a.di.InstanceType;
+import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 /**
  * @author wynn5a
@@ -11,11 +13,22 @@ public class DependencyNotFoundException extends RuntimeException {
 
   private final InstanceType dependency;
   private final InstanceType component;
+  private final List<Missing> missing;
 
 
   public DependencyNotFoundException(InstanceType component, InstanceType dependency) {
-    this.dependency = dependency;
-    this.component = component;
+    this(List.of(new Missing(component, dependency)));
+  }
+
+  /**
+   * @param missing 所有缺失的依赖，getComponent / getDependency 返回其中第一个
+   */
+  public DependencyNotFoundException(List<Missing> missing) {
+    super(missing.stream().map(m -> m.component() + " -> " + m.dependency())
+                 .collect(Collectors.joining("\n", "Dependencies not found:\n", "")));
+    this.missing = missing;
+    this.component = missing.get(0).component();
+    this.dependency = missing.get(0).dependency();
   }
 
   public InstanceType getDependency() {
@@ -26,11 +39,20 @@ public class DependencyNotFoundException extends RuntimeException {
     return component;
   }
 
+  public List<Missing> getMissing() {
+    return missing;
+  }
+
+  public record Missing(InstanceType component, InstanceType dependency) {
+
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", DependencyNotFoundException.class.getSimpleName() + "[", "]")
         .add("dependency=" + dependency)
         .add("component=" + component)
+        .add("missing=" + missing.size())
         .toString();
   }
 }
@@ -0,0 +1,12 @@
+package io.github.wynn5a.di.exception;
+
+/**
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public class OutOfScopeException extends RuntimeException {
+
+  public OutOfScopeException(String message) {
+    super(message);
+  }
+}
@@ -4,36 +4,82 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.wynn5a.di.discovery.AnotherHandler;
+import io.github.wynn5a.di.discovery.Blue;
+import io.github.wynn5a.di.discovery.BluePaint;
+import io.github.wynn5a.di.discovery.Greeter;
+import io.github.wynn5a.di.discovery.Handler;
+import io.github.wynn5a.di.discovery.Initialized;
+import io.github.wynn5a.di.discovery.OneHandler;
+import io.github.wynn5a.di.discovery.Paint;
+import io.github.wynn5a.di.discovery.Punctuation;
+import io.github.wynn5a.di.discovery.Red;
+import io.github.wynn5a.di.discovery.RedPaint;
 import io.github.wynn5a.di.exception.CyclicDependencyFoundException;
 import io.github.wynn5a.di.exception.DependencyNotFoundException;
 import io.github.wynn5a.di.exception.IllegalComponentException;
 import io.github.wynn5a.di.exception.IllegalQualifierException;
+import io.github.wynn5a.di.exception.OutOfScopeException;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.ParameterizedType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * 测试重构： <br /> 1. 设计决策变化的时候，需要重新设计测试用例 <br /> 2. TDD 过程中的 TestCase 并不一定是良好的测试用例 <br /> 3. 测试用例反应的更多是实现的过程，而不天然是文档 <br
@@ -91,6 +137,20 @@ public class ContainerTest {
       assertEquals(ComponentWithDependency.class, exception.getComponent().type());
     }
 
+    @Test
+    public void should_report_missing_dependencies_and_cycles_together() {
+      containerConfig.bind(Component.class, SomeComponentWithCyclicDependency.class);
+      containerConfig.bind(Dependency.class, DependencyDependedOnComponent.class);
+      containerConfig.bind(Dependency.class, DependencyDependedOnDependency.class, new NamedQualifier("missing"));
+
+      DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class,
+                                                           () -> containerConfig.getContainer());
+      assertEquals(AnotherDependency.class, exception.getDependency().type());
+      assertEquals(1, exception.getSuppressed().length);
+      assertEquals(Set.of(Component.class, Dependency.class),
+                   ((CyclicDependencyFoundException) exception.getSuppressed()[0]).getDependencies());
+    }
+
     // cyclic dependency a->b->a
     @ParameterizedTest(name = "check cyclic dependency between injection by {0}, {1}")
     @MethodSource("cyclicDependency")
@@ -200,6 +260,134 @@ public class ContainerTest {
       return arguments.stream();
     }
 
+    @Test
+    public void should_report_all_missing_dependencies_at_once() {
+      containerConfig.bind(Component.class, ComponentWithConstructorDependency.class, new NamedQualifier("one"));
+      containerConfig.bind(Component.class, ComponentWithFieldInject.class, new NamedQualifier("two"));
+
+      DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> containerConfig.getContainer());
+      assertEquals(Set.of(new InstanceType(Component.class, new NamedQualifier("one")),
+                          new InstanceType(Component.class, new NamedQualifier("two"))),
+                   exception.getMissing().stream().map(DependencyNotFoundException.Missing::component)
+                            .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void should_report_every_cycle_with_ordered_path() {
+      containerConfig.bind(CycleA.class, CycleA.class);
+      containerConfig.bind(CycleB.class, CycleB.class);
+      containerConfig.bind(CycleC.class, CycleC.class);
+      containerConfig.bind(SelfCycle.class, SelfCycle.class);
+
+      CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class, () -> containerConfig.getContainer());
+      assertEquals(2, exception.getCycles().size());
+      for (List<InstanceType> cycle : exception.getCycles()) {
+        assertEquals(cycle.get(0), cycle.get(cycle.size() - 1));
+      }
+      assertEquals(Set.of(CycleA.class, CycleB.class, CycleC.class, SelfCycle.class), exception.getDependencies());
+      List<InstanceType> abc = exception.getCycles().stream().filter(c -> c.size() == 4).findFirst().orElseThrow();
+      int a = abc.indexOf(new InstanceType(CycleA.class, null));
+      assertEquals(CycleB.class, abc.get(a + 1).type());
+    }
+
+    @Test
+    public void should_validate_long_dependency_chain_without_stack_overflow() {
+      int length = 100_000;
+      Map<InstanceType, InstanceSupplier<?>> chain = new HashMap<>();
+      for (int i = 0; i < length; i++) {
+        List<InstanceTypeRef> dependencies = i + 1 < length
+            ? List.of(InstanceTypeRef.of(Dependency.class, new NamedQualifier(String.valueOf(i + 1)))) : List.of();
+        chain.put(new InstanceType(Dependency.class, new NamedQualifier(String.valueOf(i))), new InstanceSupplier<>() {
+          @Override
+          public Object get(Container container) {
+            return null;
+          }
+
+          @Override
+          public List<InstanceTypeRef> dependencies() {
+            return dependencies;
+          }
+        });
+      }
+      assertDoesNotThrow(() -> new DependencyGraph(chain).validate());
+    }
+
+    @Test
+    public void should_find_cycle_formed_by_binding_replaced_after_get_container() {
+      containerConfig.bind(CycleA.class, new CycleA(null));
+      containerConfig.bind(CycleB.class, CycleB.class);
+      containerConfig.bind(CycleC.class, CycleC.class);
+      containerConfig.getContainer();
+
+      containerConfig.bind(CycleA.class, CycleA.class);
+
+      CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class,
+                                                               () -> containerConfig.getContainer());
+      assertEquals(Set.of(CycleA.class, CycleB.class, CycleC.class), exception.getDependencies());
+    }
+
+    @Test
+    public void should_find_missing_dependency_of_binding_added_after_get_container() {
+      containerConfig.bind(Component.class, SomeComponent.class);
+      containerConfig.getContainer();
+
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+
+      assertThrows(DependencyNotFoundException.class, () -> containerConfig.getContainer());
+    }
+
+    @Test
+    public void should_only_validate_bindings_added_since_last_get_container() {
+      AtomicInteger checked = new AtomicInteger();
+      containerConfig.bind(Dependency.class, List.of(), new InstanceSupplier<>() {
+        @Override
+        public Object get(Container container) {
+          return new DependencyInstance();
+        }
+
+        @Override
+        public List<InstanceTypeRef> dependencies() {
+          checked.incrementAndGet();
+          return List.of();
+        }
+      });
+      containerConfig.getContainer();
+      checked.set(0);
+
+      containerConfig.bind(Component.class, SomeComponent.class);
+      containerConfig.getContainer();
+
+      assertEquals(0, checked.get());
+    }
+
+    static class CycleA {
+
+      @Inject
+      CycleA(CycleB b) {
+      }
+    }
+
+    static class CycleB {
+
+      @Inject
+      CycleB(CycleC c) {
+      }
+    }
+
+    static class CycleC {
+
+      @Inject
+      CycleC(CycleA a) {
+      }
+    }
+
+    static class SelfCycle {
+
+      @Inject
+      SelfCycle(SelfCycle self) {
+      }
+    }
+
     @Nested
     class WithQualifier {
 
@@ -360,6 +548,44 @@ public class ContainerTest {
       assertSame(instance, supplier.get());
     }
 
+    @Test
+    public void should_reuse_one_provider_handle_per_binding() {
+      containerConfig.bind(Component.class, SomeComponent.class);
+      containerConfig.bind(Dependency.class, DependencyInstance.class);
+      containerConfig.bind(ComponentWithProviderDependency.class, ComponentWithProviderDependency.class);
+      Container container = containerConfig.getContainer();
+
+      Provider<Component> provider = container.get(new InstanceTypeRef<Provider<Component>>() {
+      }).get();
+      assertSame(provider, container.get(new InstanceTypeRef<Provider<Component>>() {
+      }).get());
+      assertSame(provider, container.get(new InstanceTypeRef<Supplier<Component>>() {
+      }).get());
+      assertNotSame(provider.get(), provider.get());
+
+      Provider<Dependency> injected = container.get(InstanceTypeRef.of(ComponentWithProviderDependency.class)).get()
+                                               .dependencyProvider();
+      assertSame(injected, container.get(InstanceTypeRef.of(ComponentWithProviderDependency.class)).get()
+                                    .dependencyProvider());
+      assertSame(injected, container.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_inject_handles_of_own_container_after_another_container_built(InjectionMode mode) {
+      containerConfig.injection(mode);
+      containerConfig.bind(Dependency.class, DependencyInstance.class);
+      containerConfig.bind(ComponentWithProviderDependency.class, ComponentWithProviderDependency.class);
+      Container first = containerConfig.getContainer();
+      Container second = containerConfig.getContainer();
+
+      assertSame(first.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get(), first.get(InstanceTypeRef.of(ComponentWithProviderDependency.class)).get().dependencyProvider());
+      assertSame(second.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get(), second.get(InstanceTypeRef.of(ComponentWithProviderDependency.class)).get().dependencyProvider());
+    }
+
     @Test
     public void should_not_retrieve_bind_type_as_provider_if_container_type_is_unsupported() {
       Component instance = new Component() {
@@ -426,6 +652,44 @@ public class ContainerTest {
       assertEquals(PooledInstanceSupplier.MAX, set.size());
     }
 
+    @Test
+    public void should_create_singleton_only_once_when_resolved_concurrently() throws Exception {
+      AtomicInteger created = new AtomicInteger();
+      CountDownLatch start = new CountDownLatch(1);
+      SingletonInstanceSupplier<Object> singleton = new SingletonInstanceSupplier<>(c -> {
+        created.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        return new Object();
+      });
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<Object>> results = IntStream.range(0, 8).mapToObj(i -> executor.submit(() -> {
+          start.await();
+          return singleton.get(null);
+        })).toList();
+        start.countDown();
+        Set<Object> instances = new HashSet<>();
+        for (Future<Object> result : results) {
+          instances.add(result.get());
+        }
+        assertEquals(1, created.get());
+        assertEquals(1, instances.size());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    public void should_share_singleton_dependency_between_linked_components() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      Container container = containerConfig.getContainer();
+      ComponentWithDependency one = container.get(InstanceTypeRef.of(ComponentWithDependency.class)).get();
+      ComponentWithDependency two = container.get(InstanceTypeRef.of(ComponentWithDependency.class)).get();
+      assertNotSame(one, two);
+      assertSame(one.getDependency(), two.getDependency());
+    }
+
     @Test
     public void should_throw_exception_when_giving_multi_scope_annotation() {
       assertThrows(IllegalComponentException.class,
@@ -453,6 +717,405 @@ public class ContainerTest {
 
     }
 
+    @Nested
+    public class ScopeContextTest {
+
+      private final InstanceTypeRef<Component> component = InstanceTypeRef.of(Component.class);
+
+      @Test
+      public void should_share_request_scoped_instance_within_request_only() {
+        containerConfig.bind(Component.class, RequestScopedComponent.class);
+        containerConfig.bind(Dependency.class, RequestScopedDependency.class);
+        Container container = containerConfig.getContainer();
+
+        Object first;
+        try (ScopeContext ignored = containerConfig.requestScope().enter()) {
+          first = container.get(component).get();
+          assertSame(first, container.get(component).get());
+        }
+        try (ScopeContext ignored = containerConfig.requestScope().enter()) {
+          assertNotSame(first, container.get(component).get());
+        }
+      }
+
+      @Test
+      public void should_throw_exception_when_resolved_out_of_request_scope() {
+        containerConfig.bind(Dependency.class, RequestScopedDependency.class);
+        Container container = containerConfig.getContainer();
+
+        assertThrows(OutOfScopeException.class, () -> container.get(InstanceTypeRef.of(Dependency.class)));
+      }
+
+      @Test
+      public void should_dispose_request_scoped_instances_in_reverse_creation_order_on_exit() {
+        containerConfig.bind(Component.class, RequestScopedComponent.class);
+        containerConfig.bind(Dependency.class, RequestScopedDependency.class);
+        Container container = containerConfig.getContainer();
+
+        RequestScopedComponent scoped;
+        try (ScopeContext ignored = containerConfig.requestScope().enter()) {
+          scoped = (RequestScopedComponent) container.get(component).get();
+        }
+        assertTrue(scoped.closed);
+        assertTrue(scoped.dependencyOpenWhenClosed);
+        assertTrue(((RequestScopedDependency) scoped.dependency).closed);
+      }
+
+      @Test
+      public void should_restore_outer_request_after_nested_request_exits() {
+        containerConfig.bind(Dependency.class, RequestScopedDependency.class);
+        Container container = containerConfig.getContainer();
+
+        try (ScopeContext ignored = containerConfig.requestScope().enter()) {
+          Object outer = container.get(InstanceTypeRef.of(Dependency.class)).get();
+          try (ScopeContext nested = containerConfig.requestScope().enter()) {
+            assertNotSame(outer, container.get(InstanceTypeRef.of(Dependency.class)).get());
+          }
+          assertSame(outer, container.get(InstanceTypeRef.of(Dependency.class)).get());
+        }
+      }
+
+      @Test
+      public void should_share_request_with_other_thread() throws Exception {
+        containerConfig.bind(Dependency.class, RequestScopedDependency.class);
+        Container container = containerConfig.getContainer();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ScopeContext request = containerConfig.requestScope().enter()) {
+          Object dependency = container.get(InstanceTypeRef.of(Dependency.class)).get();
+          Future<Object> fromOtherThread = executor.submit(
+              () -> request.call(() -> container.get(InstanceTypeRef.of(Dependency.class)).get()));
+          assertSame(dependency, fromOtherThread.get());
+        } finally {
+          executor.shutdown();
+        }
+      }
+
+      @Test
+      public void should_keep_thread_scoped_instance_per_thread_until_disposed() throws Exception {
+        containerConfig.bind(Dependency.class, ThreadScopedDependency.class);
+        Container container = containerConfig.getContainer();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+          Object dependency = container.get(InstanceTypeRef.of(Dependency.class)).get();
+          assertSame(dependency, container.get(InstanceTypeRef.of(Dependency.class)).get());
+          assertNotSame(dependency, executor.submit(() -> container.get(InstanceTypeRef.of(Dependency.class)).get()).get());
+
+          containerConfig.threadScope().dispose();
+          assertNotSame(dependency, container.get(InstanceTypeRef.of(Dependency.class)).get());
+        } finally {
+          containerConfig.threadScope().dispose();
+          executor.shutdown();
+        }
+      }
+    }
+
+    @Nested
+    public class CachingScopeTest {
+
+      private final AtomicLong clock = new AtomicLong();
+
+      private Component get(Container container, String name) {
+        return container.get(InstanceTypeRef.of(Component.class, new NamedQualifier(name))).get();
+      }
+
+      @Test
+      public void should_recreate_instance_after_written_ttl_expired() {
+        ExpiringScope scope = new ExpiringScope(Duration.ofSeconds(10), false, clock::get);
+        containerConfig.scope(Cached.class, scope);
+        containerConfig.bind(Component.class, SomeComponent.class, new CachedLiteral());
+        Container container = containerConfig.getContainer();
+
+        Component first = container.get(InstanceTypeRef.of(Component.class)).get();
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNotSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+
+        assertEquals(new CacheStats(1, 2, 1), scope.stats());
+      }
+
+      @Test
+      public void should_extend_ttl_when_accessed() {
+        ExpiringScope scope = new ExpiringScope(Duration.ofSeconds(10), true, clock::get);
+        containerConfig.scope(Cached.class, scope);
+        containerConfig.bind(Component.class, SomeComponent.class, new CachedLiteral());
+        Container container = containerConfig.getContainer();
+
+        Component first = container.get(InstanceTypeRef.of(Component.class)).get();
+        for (int i = 0; i < 5; i++) {
+          clock.addAndGet(Duration.ofSeconds(9).toNanos());
+          assertSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+        }
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNotSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+      }
+
+      @Test
+      public void should_evict_least_recently_used_qualified_instance() {
+        LruScope scope = new LruScope(2);
+        containerConfig.scope(Cached.class, scope);
+        for (String name : List.of("one", "two", "three")) {
+          containerConfig.bind(Component.class, SomeComponent.class, new NamedQualifier(name), new CachedLiteral());
+        }
+        Container container = containerConfig.getContainer();
+
+        Component one = get(container, "one");
+        Component two = get(container, "two");
+        assertSame(one, get(container, "one"));
+        get(container, "three");
+
+        assertEquals(2, scope.size());
+        assertSame(one, get(container, "one"));
+        assertNotSame(two, get(container, "two"));
+        assertEquals(new CacheStats(2, 4, 2), scope.stats());
+      }
+
+      @Test
+      public void should_keep_recently_used_instance_when_evicting_by_samples() {
+        LruScope scope = new LruScope(16);
+        containerConfig.scope(Cached.class, scope);
+        for (int i = 0; i < 64; i++) {
+          containerConfig.bind(Component.class, SomeComponent.class, new NamedQualifier("c" + i), new CachedLiteral());
+        }
+        Container container = containerConfig.getContainer();
+
+        Component hot = get(container, "c0");
+        for (int i = 1; i < 64; i++) {
+          assertSame(hot, get(container, "c0"));
+          get(container, "c" + i);
+        }
+
+        assertEquals(16, scope.size());
+        assertEquals(new CacheStats(63, 64, 48), scope.stats());
+      }
+
+      @Test
+      public void should_recreate_weak_referenced_instance_after_collected() throws InterruptedException {
+        ReferenceScope scope = ReferenceScope.weak();
+        containerConfig.scope(Cached.class, scope);
+        containerConfig.bind(Component.class, SomeComponent.class, new CachedLiteral());
+        Container container = containerConfig.getContainer();
+
+        Component first = container.get(InstanceTypeRef.of(Component.class)).get();
+        assertSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+        WeakReference<Component> collected = new WeakReference<>(first);
+        first = null;
+        for (int i = 0; i < 50 && collected.get() != null; i++) {
+          System.gc();
+          Thread.sleep(10);
+        }
+        assertNull(collected.get());
+
+        assertNotNull(container.get(InstanceTypeRef.of(Component.class)).get());
+        assertEquals(new CacheStats(1, 2, 1), scope.stats());
+      }
+
+      @Test
+      public void should_keep_soft_referenced_instance_while_memory_is_sufficient() {
+        ReferenceScope scope = ReferenceScope.soft();
+        containerConfig.scope(Cached.class, scope);
+        containerConfig.bind(Component.class, SomeComponent.class, new CachedLiteral());
+        Container container = containerConfig.getContainer();
+
+        Component first = container.get(InstanceTypeRef.of(Component.class)).get();
+        assertSame(first, container.get(InstanceTypeRef.of(Component.class)).get());
+        assertEquals(0.5, scope.stats().hitRate());
+      }
+    }
+
+    @Nested
+    public class PoolScopeTest {
+
+      private final InstanceTypeRef<Pool<Component>> pooled = new InstanceTypeRef<>() {
+      };
+
+      private Pool<Component> pool(PoolScope scope) {
+        containerConfig.scope(Pooled.class, scope);
+        containerConfig.bind(Component.class, SomeComponent.class, new PooledLiteral());
+        return containerConfig.getContainer().get(pooled).get();
+      }
+
+      @Test
+      public void should_reuse_returned_instance() {
+        Pool<Component> pool = pool(new PoolScope(2));
+        Component returned;
+        try (Lease<Component> lease = pool.get()) {
+          returned = lease.get();
+        }
+        try (Lease<Component> lease = pool.get()) {
+          assertSame(returned, lease.get());
+        }
+      }
+
+      @Test
+      public void should_lend_different_instances_and_drop_returned_instance_when_pool_is_full() {
+        Pool<Component> pool = pool(new PoolScope(1));
+        Lease<Component> one = pool.get();
+        Lease<Component> two = pool.get();
+        assertNotSame(one.get(), two.get());
+        Component first = one.get();
+        Component second = two.get();
+        one.close();
+        two.close();
+
+        Lease<Component> three = pool.get();
+        Lease<Component> four = pool.get();
+        assertSame(first, three.get());
+        assertNotSame(first, four.get());
+        assertNotSame(second, four.get());
+      }
+
+      @Test
+      public void should_reset_instance_once_when_returned() {
+        List<Object> reset = new ArrayList<>();
+        Pool<Component> pool = pool(new PoolScope(2, reset::add));
+        Lease<Component> lease = pool.get();
+        Component component = lease.get();
+        lease.close();
+        lease.close();
+
+        assertEquals(List.of(component), reset);
+        assertThrows(IllegalStateException.class, lease::get);
+      }
+
+      @Test
+      public void should_inject_pool_of_pooled_dependency() {
+        containerConfig.scope(Pooled.class, new PoolScope(2));
+        containerConfig.bind(Dependency.class, DependencyInstance.class, new PooledLiteral());
+        containerConfig.bind(ComponentWithPooledDependency.class, ComponentWithPooledDependency.class);
+        Container container = containerConfig.getContainer();
+        Pool<Dependency> pool = container.get(InstanceTypeRef.of(ComponentWithPooledDependency.class)).get().dependencies;
+
+        Dependency returned;
+        try (Lease<Dependency> lease = pool.get()) {
+          returned = lease.get();
+        }
+        try (Lease<Dependency> lease = pool.get()) {
+          assertSame(returned, lease.get());
+        }
+      }
+
+      @Test
+      public void should_not_get_pooled_component_without_pool() {
+        containerConfig.scope(Pooled.class, new PoolScope(2));
+        containerConfig.bind(Component.class, SomeComponent.class, new PooledLiteral());
+        Container container = containerConfig.getContainer();
+
+        assertThrows(IllegalComponentException.class, () -> container.get(InstanceTypeRef.of(Component.class)));
+        Provider<Component> provider = container.get(new InstanceTypeRef<Provider<Component>>() {
+        }).get();
+        assertThrows(IllegalComponentException.class, provider::get);
+      }
+
+      @Test
+      public void should_not_inject_pooled_dependency_without_pool() {
+        containerConfig.scope(Pooled.class, new PoolScope(2));
+        containerConfig.bind(Dependency.class, DependencyInstance.class, new PooledLiteral());
+        containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+        containerConfig.bind(Component.class, ComponentWithSupplierConstructorDependency.class);
+
+        IllegalComponentException exception = assertThrows(IllegalComponentException.class,
+                                                           () -> containerConfig.getContainer());
+        assertTrue(exception.getMessage().contains("Pool<T>"));
+        assertTrue(exception.getMessage().contains(ComponentWithDependency.class.getName()));
+        assertTrue(exception.getMessage().contains(Component.class.getName()));
+      }
+
+      @ParameterizedTest
+      @ValueSource(classes = {ComponentWithPooledSetDependency.class, ComponentWithPooledMapDependency.class})
+      public void should_not_collect_pooled_dependency_into_set_or_map(Class<?> component) {
+        containerConfig.scope(Pooled.class, new PoolScope(2));
+        containerConfig.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("pooled"),
+                             new PooledLiteral());
+        containerConfig.bindComponent(component, component);
+
+        IllegalComponentException exception = assertThrows(IllegalComponentException.class,
+                                                           () -> containerConfig.getContainer());
+        assertTrue(exception.getMessage().contains("Pool<T>"));
+        assertTrue(exception.getMessage().contains(Dependency.class.getName()));
+      }
+
+      @Test
+      public void should_lend_new_instance_when_component_is_not_pooled() {
+        containerConfig.bind(Component.class, SomeComponent.class);
+        Pool<Component> pool = containerConfig.getContainer().get(pooled).get();
+        Component returned;
+        try (Lease<Component> lease = pool.get()) {
+          returned = lease.get();
+        }
+        try (Lease<Component> lease = pool.get()) {
+          assertNotSame(returned, lease.get());
+        }
+      }
+    }
+
+    @Nested
+    public class EagerStartTest {
+
+      @Test
+      public void should_create_singletons_and_report_init_time_of_each_binding() {
+        containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+        containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class, new SingletonLiteral());
+        containerConfig.bind(Component.class, SomeComponent.class);
+        EagerStart eagerStart = new EagerStart();
+
+        Container container = containerConfig.getContainer(eagerStart);
+
+        assertEquals(Set.of(new InstanceType(Dependency.class, null), new InstanceType(ComponentWithDependency.class, null)),
+            eagerStart.initTimes().keySet());
+        assertSame(container.get(InstanceTypeRef.of(Dependency.class)).get(),
+            container.get(InstanceTypeRef.of(ComponentWithDependency.class)).get().getDependency());
+      }
+
+      @Test
+      public void should_create_independent_singletons_concurrently() {
+        containerConfig.bind(Component.class, SlowSingleton.class, new SingletonLiteral());
+        containerConfig.bind(Dependency.class, AnotherSlowSingleton.class, new SingletonLiteral());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+          long start = System.nanoTime();
+          containerConfig.getContainer(new EagerStart(executor));
+          long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+          assertTrue(elapsed < 2 * SlowSingleton.MILLIS, "took " + elapsed + "ms");
+        } finally {
+          executor.shutdownNow();
+        }
+      }
+
+      @Test
+      public void should_raise_exception_thrown_by_singleton_constructor() {
+        containerConfig.bind(Component.class, ComponentFailedToConstruct.class, new SingletonLiteral());
+        assertThrows(RuntimeException.class, () -> containerConfig.getContainer(new EagerStart()));
+      }
+
+      @Test
+      public void should_report_critical_path_and_slack_of_singletons() {
+        containerConfig.bind(Dependency.class, AnotherSlowSingleton.class, new SingletonLiteral());
+        containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class, new SingletonLiteral());
+        containerConfig.bind(Component.class, SomeComponent.class, new SingletonLiteral());
+
+        StartupReport report = containerConfig.analyzeStartup();
+
+        String dependency = Dependency.class.getName();
+        String component = ComponentWithDependency.class.getName();
+        assertEquals(List.of(dependency, component), report.criticalPath().stream().map(StartupReport.Entry::name).toList());
+        assertTrue(report.length().toMillis() >= SlowSingleton.MILLIS);
+        Map<String, StartupReport.Entry> entries = report.entries().stream()
+                                                         .collect(Collectors.toMap(StartupReport.Entry::name, e -> e));
+        assertTrue(entries.get(dependency).critical());
+        assertEquals(List.of(dependency), entries.get(component).dependencies());
+        assertEquals(entries.get(dependency).earliestFinish(), entries.get(component).earliestStart());
+        assertFalse(entries.get(Component.class.getName()).critical());
+        assertTrue(report.toJson().contains("\"criticalPath\": [\"" + dependency + "\", \"" + component + "\"]"));
+        assertTrue(report.toDot().contains("\"" + dependency + "\" -> \"" + component + "\" [color=red];"));
+      }
+
+      @Test
+      public void should_not_report_before_start() {
+        assertThrows(IllegalStateException.class, () -> new EagerStart().report());
+      }
+    }
+
     @Nested
     public class WithQualifier {
 
@@ -483,6 +1146,1093 @@ public class ContainerTest {
       }
     }
   }
-}
 
+  @Nested
+  public class ChildContainerTest {
+
+    private final Dependency current = new DependencyInstance();
 
+    @Test
+    public void should_get_overlay_instance_from_child() {
+      Container child = containerConfig.getContainer().child(new Overlay().bind(Dependency.class, current));
+      assertSame(current, child.get(InstanceTypeRef.of(Dependency.class, null)).get());
+    }
+
+    @Test
+    public void should_share_singleton_of_parent() {
+      containerConfig.bind(Component.class, SomeComponent.class, new SingletonLiteral());
+      Container parent = containerConfig.getContainer();
+      Container one = parent.child(new Overlay().bind(Dependency.class, current));
+      Container another = parent.child(new Overlay().bind(Dependency.class, new DependencyInstance()));
+
+      Object component = parent.get(InstanceTypeRef.of(Component.class, null)).get();
+      assertSame(component, one.get(InstanceTypeRef.of(Component.class, null)).get());
+      assertSame(component, another.get(InstanceTypeRef.of(Component.class, null)).get());
+    }
+
+    @Test
+    public void should_override_parent_binding_without_changing_parent() {
+      Dependency parentDependency = new DependencyInstance();
+      containerConfig.bind(Dependency.class, parentDependency);
+      Container parent = containerConfig.getContainer();
+      Container child = parent.child(new Overlay().bind(Dependency.class, current));
+
+      assertSame(current, child.get(InstanceTypeRef.of(Dependency.class, null)).get());
+      assertSame(parentDependency, parent.get(InstanceTypeRef.of(Dependency.class, null)).get());
+    }
+
+    @Test
+    public void should_get_overlay_instance_by_qualifier() {
+      Container child = containerConfig.getContainer()
+                                       .child(new Overlay().bind(Dependency.class, current, new NamedQualifier("current")));
+
+      assertTrue(child.get(InstanceTypeRef.of(Dependency.class, null)).isEmpty());
+      assertSame(current, child.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("current"))).get());
+    }
+
+    @Test
+    public void should_get_overlay_instance_by_provider() {
+      Container child = containerConfig.getContainer().child(new Overlay().bind(Dependency.class, current));
+
+      Provider<Dependency> provider = child.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get();
+      assertSame(current, provider.get());
+    }
+
+    @Test
+    public void should_reuse_provider_of_child_for_overlay_and_prototype() {
+      containerConfig.childBinding(Dependency.class);
+      containerConfig.bind(Component.class, ComponentWithConstructorDependency.class);
+      Container child = containerConfig.getContainer().child(new Overlay().bind(Dependency.class, current));
+
+      Provider<Dependency> dependency = child.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get();
+      Provider<Component> component = child.get(new InstanceTypeRef<Provider<Component>>() {
+      }).get();
+      assertSame(dependency, child.get(new InstanceTypeRef<Provider<Dependency>>() {
+      }).get());
+      assertSame(dependency, child.get(new InstanceTypeRef<Supplier<Dependency>>() {
+      }).get());
+      assertSame(component, child.get(new InstanceTypeRef<Provider<Component>>() {
+      }).get());
+      assertSame(component, child.get(new InstanceTypeRef<Supplier<Component>>() {
+      }).get());
+      assertSame(current, dependency.get());
+      assertSame(current, ((ComponentWithDependency) component.get()).getDependency());
+      assertNotSame(component.get(), component.get());
+    }
+
+    @Test
+    public void should_look_up_grandparent_through_child() {
+      containerConfig.bind(Component.class, SomeComponent.class, new SingletonLiteral());
+      Container parent = containerConfig.getContainer();
+      Container grandchild = parent.child(new Overlay()).child(new Overlay().bind(Dependency.class, current));
+
+      assertSame(parent.get(InstanceTypeRef.of(Component.class, null)).get(),
+                 grandchild.get(InstanceTypeRef.of(Component.class, null)).get());
+      assertSame(current, grandchild.get(InstanceTypeRef.of(Dependency.class, null)).get());
+    }
+
+    @Test
+    public void should_not_overlay_with_non_qualifier_annotation() {
+      assertThrows(IllegalQualifierException.class,
+                   () -> new Overlay().bind(Dependency.class, current, new SingletonLiteral()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_inject_overlay_into_prototype_created_through_child(InjectionMode mode) {
+      containerConfig.injection(mode);
+      containerConfig.childBinding(Dependency.class);
+      containerConfig.bind(Component.class, ComponentWithConstructorDependency.class);
+      Container parent = containerConfig.getContainer();
+      Dependency another = new DependencyInstance();
+
+      Container one = parent.child(new Overlay().bind(Dependency.class, current));
+      Container grandchild = parent.child(new Overlay().bind(Dependency.class, another)).child(new Overlay());
+
+      assertSame(current, ((ComponentWithDependency) one.get(InstanceTypeRef.of(Component.class)).get()).getDependency());
+      assertSame(another,
+                 ((ComponentWithDependency) grandchild.get(InstanceTypeRef.of(Component.class)).get()).getDependency());
+      Provider<Component> provider = one.get(new InstanceTypeRef<Provider<Component>>() {
+      }).get();
+      assertSame(current, ((ComponentWithDependency) provider.get()).getDependency());
+      assertSame(current,
+                 ((ComponentWithDependency) one.getAsync(InstanceTypeRef.of(Component.class)).join()).getDependency());
+    }
+
+    @Test
+    public void should_not_get_child_binding_outside_child() {
+      containerConfig.childBinding(Dependency.class, new NamedQualifier("current"));
+      Container parent = containerConfig.getContainer();
+
+      assertThrows(OutOfScopeException.class,
+                   () -> parent.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("current"))));
+      assertTrue(parent.get(new InstanceTypeRef<Set<Dependency>>() {
+      }).get().isEmpty());
+    }
+
+    @Test
+    public void should_not_create_singleton_with_overlay_of_child() {
+      containerConfig.childBinding(Dependency.class);
+      containerConfig.bind(Component.class, ScopedComponentWithDependency.class);
+      Container child = containerConfig.getContainer().child(new Overlay().bind(Dependency.class, current));
+
+      RuntimeException exception = assertThrows(RuntimeException.class,
+                                                () -> child.get(InstanceTypeRef.of(Component.class)));
+      assertTrue(exception.getCause() instanceof OutOfScopeException);
+    }
+
+    @Test
+    public void should_not_declare_child_binding_with_non_qualifier_annotation() {
+      assertThrows(IllegalQualifierException.class,
+                   () -> containerConfig.childBinding(Dependency.class, new SingletonLiteral()));
+    }
+  }
+
+  @Nested
+  public class Multibinding {
+
+    private final Dependency one = new DependencyInstance();
+    private final Dependency two = new DependencyInstance();
+    private final Dependency unnamed = new DependencyInstance();
+
+    @Test
+    public void should_inject_all_bindings_of_type_as_set() {
+      containerConfig.bind(Dependency.class, one, new NamedQualifier("one"));
+      containerConfig.bind(Dependency.class, two, new NamedQualifier("two"));
+      containerConfig.bind(Dependency.class, unnamed);
+      containerConfig.bind(Component.class, ComponentWithMultibindings.class);
+
+      ComponentWithMultibindings component = (ComponentWithMultibindings) containerConfig.getContainer()
+                                                                                       .get(InstanceTypeRef.of(Component.class))
+                                                                                       .get();
+      assertEquals(Set.of(one, two, unnamed), component.all);
+    }
+
+    @Test
+    public void should_inject_named_bindings_of_type_as_map() {
+      containerConfig.bind(Dependency.class, one, new NamedQualifier("one"));
+      containerConfig.bind(Dependency.class, two, new NamedQualifier("two"));
+      containerConfig.bind(Dependency.class, unnamed);
+      containerConfig.bind(Component.class, ComponentWithMultibindings.class);
+
+      ComponentWithMultibindings component = (ComponentWithMultibindings) containerConfig.getContainer()
+                                                                                       .get(InstanceTypeRef.of(Component.class))
+                                                                                       .get();
+      assertEquals(Map.of("one", one, "two", two), component.named);
+    }
+
+    @Test
+    public void should_get_empty_collections_when_no_binding_of_type() {
+      containerConfig.bind(Component.class, ComponentWithMultibindings.class);
+
+      ComponentWithMultibindings component = (ComponentWithMultibindings) containerConfig.getContainer()
+                                                                                       .get(InstanceTypeRef.of(Component.class))
+                                                                                       .get();
+      assertTrue(component.all.isEmpty());
+      assertTrue(component.named.isEmpty());
+    }
+
+    @Test
+    public void should_get_set_from_container() {
+      containerConfig.bind(Dependency.class, one, new NamedQualifier("one"));
+      containerConfig.bind(Dependency.class, two, new NamedQualifier("two"));
+
+      Set<Dependency> all = containerConfig.getContainer().get(new InstanceTypeRef<Set<Dependency>>() {
+      }).get();
+      assertEquals(Set.of(one, two), all);
+    }
+
+    @Test
+    public void should_include_binding_with_multiple_qualifiers_once() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral(), new NamedQualifier("one"),
+                           new NamedQualifier("two"));
+      Container container = containerConfig.getContainer();
+
+      Set<Dependency> all = container.get(new InstanceTypeRef<Set<Dependency>>() {
+      }).get();
+      Map<String, Dependency> named = container.get(new InstanceTypeRef<Map<String, Dependency>>() {
+      }).get();
+      assertEquals(1, all.size());
+      assertSame(named.get("one"), named.get("two"));
+    }
+
+    @Test
+    public void should_create_new_members_of_prototype_bindings_each_time() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("one"));
+      Container container = containerConfig.getContainer();
+      InstanceTypeRef<Set<Dependency>> ref = new InstanceTypeRef<>() {
+      };
+
+      assertNotSame(container.get(ref).get().iterator().next(), container.get(ref).get().iterator().next());
+    }
+
+    @Test
+    public void should_throw_exception_if_cyclic_dependency_through_set() {
+      containerConfig.bind(Dependency.class, DependencyDependedOnComponent.class, new NamedQualifier("one"));
+      containerConfig.bind(Component.class, ComponentWithMultibindings.class);
+
+      CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class,
+                                                              () -> containerConfig.getContainer());
+      assertEquals(Set.of(Component.class, Dependency.class),
+                   exception.getCycles().get(0).stream().map(InstanceType::type).collect(Collectors.toSet()));
+    }
+  }
+
+  @Nested
+  public class AsyncResolution {
+
+    @Test
+    public void should_get_component_with_dependency_async() {
+      Dependency dependency = new DependencyInstance();
+      containerConfig.bind(Dependency.class, dependency);
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+
+      ComponentWithDependency component = containerConfig.getContainer()
+                                                         .getAsync(InstanceTypeRef.of(ComponentWithDependency.class))
+                                                         .join();
+      assertSame(dependency, component.getDependency());
+    }
+
+    @Test
+    public void should_create_independent_dependencies_concurrently() {
+      containerConfig.bind(Component.class, SlowSingleton.class, new SingletonLiteral());
+      containerConfig.bind(Dependency.class, AnotherSlowSingleton.class, new SingletonLiteral());
+      containerConfig.bind(ComponentWithSlowDependencies.class, ComponentWithSlowDependencies.class);
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        containerConfig.asyncExecutor(executor);
+        Container container = containerConfig.getContainer();
+
+        long start = System.nanoTime();
+        ComponentWithSlowDependencies component = container.getAsync(
+            InstanceTypeRef.of(ComponentWithSlowDependencies.class)).join();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed < 2 * SlowSingleton.MILLIS, "took " + elapsed + "ms");
+        assertSame(container.get(InstanceTypeRef.of(Component.class)).get(), component.component);
+        assertSame(container.get(InstanceTypeRef.of(Dependency.class)).get(), component.dependency);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    public void should_create_independent_prototype_dependencies_concurrently() {
+      containerConfig.bind(Component.class, SlowSingleton.class);
+      containerConfig.bind(Dependency.class, AnotherSlowSingleton.class);
+      containerConfig.bind(ComponentWithSlowDependencies.class, ComponentWithSlowDependencies.class);
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        containerConfig.asyncExecutor(executor);
+        Container container = containerConfig.getContainer();
+
+        long start = System.nanoTime();
+        ComponentWithSlowDependencies component = container.getAsync(
+            InstanceTypeRef.of(ComponentWithSlowDependencies.class)).join();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed < 2 * SlowSingleton.MILLIS, "took " + elapsed + "ms");
+        assertTrue(component.component instanceof SlowSingleton);
+        assertTrue(component.dependency instanceof AnotherSlowSingleton);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    public void should_create_same_prototype_injected_twice_concurrently() {
+      containerConfig.bind(Component.class, SlowSingleton.class);
+      containerConfig.bind(ComponentWithSameSlowDependencyTwice.class, ComponentWithSameSlowDependencyTwice.class);
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        containerConfig.asyncExecutor(executor);
+        Container container = containerConfig.getContainer();
+
+        long start = System.nanoTime();
+        ComponentWithSameSlowDependencyTwice component = container.getAsync(
+            InstanceTypeRef.of(ComponentWithSameSlowDependencyTwice.class)).join();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed < 2 * SlowSingleton.MILLIS, "took " + elapsed + "ms");
+        assertTrue(component.component instanceof SlowSingleton);
+        assertTrue(component.another instanceof SlowSingleton);
+        assertNotSame(component.component, component.another);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    public void should_share_singleton_between_concurrent_async_calls() {
+      containerConfig.bind(Component.class, SlowSingleton.class, new SingletonLiteral());
+      Container container = containerConfig.getContainer();
+
+      CompletableFuture<Component> one = container.getAsync(InstanceTypeRef.of(Component.class));
+      CompletableFuture<Component> another = container.getAsync(InstanceTypeRef.of(Component.class));
+      assertSame(one.join(), another.join());
+    }
+
+    @Test
+    public void should_inject_completable_future_of_dependency() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+      containerConfig.bind(ComponentWithFutureDependency.class, ComponentWithFutureDependency.class);
+      Container container = containerConfig.getContainer();
+
+      ComponentWithFutureDependency component = container.get(InstanceTypeRef.of(ComponentWithFutureDependency.class))
+                                                         .get();
+      assertSame(container.get(InstanceTypeRef.of(Dependency.class)).get(), component.dependency.join());
+    }
+
+    @Test
+    public void should_fail_when_binding_not_found() {
+      CompletableFuture<Component> future = containerConfig.getContainer()
+                                                           .getAsync(InstanceTypeRef.of(Component.class));
+      CompletionException exception = assertThrows(CompletionException.class, future::join);
+      assertTrue(exception.getCause() instanceof NoSuchElementException);
+    }
+
+    @Test
+    public void should_fail_and_retry_when_singleton_failed_to_construct() {
+      containerConfig.bind(Component.class, ComponentFailedToConstruct.class, new SingletonLiteral());
+      Container container = containerConfig.getContainer();
+
+      for (int i = 0; i < 2; i++) {
+        CompletionException exception = assertThrows(CompletionException.class,
+            () -> container.getAsync(InstanceTypeRef.of(Component.class)).join());
+        assertTrue(exception.getCause().getCause() instanceof IllegalStateException);
+      }
+    }
+
+    @Test
+    public void should_get_overlay_instance_from_child_async() {
+      Dependency current = new DependencyInstance();
+      containerConfig.bind(Component.class, SomeComponent.class, new SingletonLiteral());
+      Container parent = containerConfig.getContainer();
+      Container child = parent.child(new Overlay().bind(Dependency.class, current));
+
+      assertSame(current, child.getAsync(InstanceTypeRef.of(Dependency.class)).join());
+      assertSame(parent.get(InstanceTypeRef.of(Component.class)).get(),
+                 child.getAsync(InstanceTypeRef.of(Component.class)).join());
+    }
+  }
+
+  @Nested
+  public class LazyDependency {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+      containerConfig.bind(Heavy.class, List.of(), container -> {
+        created.incrementAndGet();
+        return (Heavy) () -> 42;
+      });
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_create_lazy_dependency_once_on_first_call(InjectionMode mode) {
+      containerConfig.injection(mode);
+      containerConfig.bind(ComponentWithLazyDependency.class, ComponentWithLazyDependency.class);
+      ComponentWithLazyDependency component = containerConfig.getContainer()
+                                                             .get(InstanceTypeRef.of(ComponentWithLazyDependency.class))
+                                                             .get();
+      assertEquals(0, created.get());
+
+      assertEquals(42, component.byConstructor.value());
+      assertEquals(42, component.byConstructor.value());
+      assertEquals(1, created.get());
+      assertEquals(42, component.byField.value());
+      assertEquals(2, created.get());
+    }
+
+    @Test
+    public void should_not_create_lazy_dependency_for_equals_and_hash_code() {
+      containerConfig.bind(ComponentWithLazyDependency.class, ComponentWithLazyDependency.class);
+      ComponentWithLazyDependency component = containerConfig.getContainer()
+                                                             .get(InstanceTypeRef.of(ComponentWithLazyDependency.class))
+                                                             .get();
+      assertEquals(component.byConstructor, component.byConstructor);
+      assertNotEquals(component.byConstructor, component.byField);
+      assertEquals(System.identityHashCode(component.byField), component.byField.hashCode());
+      assertEquals(0, created.get());
+    }
+
+    @Test
+    public void should_create_lazy_dependency_only_once_when_called_concurrently() throws Exception {
+      containerConfig.bind(ComponentWithLazyDependency.class, ComponentWithLazyDependency.class);
+      Heavy heavy = containerConfig.getContainer().get(InstanceTypeRef.of(ComponentWithLazyDependency.class)).get()
+                                   .byConstructor;
+      CountDownLatch start = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<Integer>> results = IntStream.range(0, 8).mapToObj(i -> executor.submit(() -> {
+          start.await();
+          return heavy.value();
+        })).toList();
+        start.countDown();
+        for (Future<Integer> result : results) {
+          assertEquals(42, result.get());
+        }
+        assertEquals(1, created.get());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_break_constructor_cycle_with_lazy_dependency(InjectionMode mode) {
+      containerConfig.injection(mode);
+      containerConfig.bind(Component.class, ComponentWithLazyCyclicDependency.class);
+      containerConfig.bind(Dependency.class, DependencyDependedOnComponent.class);
+      Component component = containerConfig.getContainer().get(InstanceTypeRef.of(Component.class)).get();
+
+      Dependency dependency = ((ComponentWithLazyCyclicDependency) component).dependency;
+      assertTrue(dependency instanceof Dependency);
+      assertNotNull(dependency.toString());
+    }
+
+    @Test
+    public void should_throw_exception_if_lazy_dependency_not_found() {
+      containerConfig.bind(Component.class, ComponentWithLazyCyclicDependency.class);
+      assertThrows(DependencyNotFoundException.class, () -> containerConfig.getContainer());
+    }
+
+    @Test
+    public void should_throw_exception_if_lazy_dependency_is_not_interface() {
+      assertThrows(IllegalComponentException.class,
+                   () -> containerConfig.bind(ComponentWithLazyClass.class, ComponentWithLazyClass.class));
+    }
+  }
+
+  @Nested
+  public class SnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void should_match_config_with_same_bindings_and_dependencies() {
+      Path file = directory.resolve("container.snapshot");
+      ContainerSnapshot.write(configWithDependency(), file);
+
+      ContainerConfig config = configWithDependency();
+      ContainerSnapshot snapshot = ContainerSnapshot.read(file);
+      assertTrue(snapshot.matches(config.instanceSuppliers()));
+      assertNotNull(config.getContainer(snapshot).get(InstanceTypeRef.of(ComponentWithDependency.class)).get()
+                          .getDependency());
+    }
+
+    @Test
+    public void should_validate_again_when_bindings_changed() {
+      Path file = directory.resolve("container.snapshot");
+      ContainerSnapshot.write(configWithDependency(), file);
+
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      ContainerSnapshot snapshot = ContainerSnapshot.read(file);
+      assertFalse(snapshot.matches(containerConfig.instanceSuppliers()));
+      assertThrows(DependencyNotFoundException.class, () -> containerConfig.getContainer(snapshot));
+    }
+
+    @Test
+    public void should_not_match_when_dependency_of_binding_changed() {
+      Path file = directory.resolve("container.snapshot");
+      ContainerSnapshot.write(configWithDependency(), file);
+
+      containerConfig.bind(Dependency.class, DependencyInstance.class);
+      containerConfig.bind(ComponentWithDependency.class, ScopedComponentWithSupplierDependency.class);
+      assertFalse(ContainerSnapshot.read(file).matches(containerConfig.instanceSuppliers()));
+    }
+
+    @Test
+    public void should_validate_again_when_binding_becomes_pooled() {
+      Path file = directory.resolve("container.snapshot");
+      ContainerSnapshot.write(configWithDependency(), file);
+
+      containerConfig.scope(Pooled.class, new PoolScope(2));
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new PooledLiteral());
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      ContainerSnapshot snapshot = ContainerSnapshot.read(file);
+      assertFalse(snapshot.matches(containerConfig.instanceSuppliers()));
+      assertThrows(IllegalComponentException.class, () -> containerConfig.getContainer(snapshot));
+    }
+
+    @Test
+    public void should_not_write_snapshot_of_invalid_config() {
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      assertThrows(DependencyNotFoundException.class,
+                   () -> ContainerSnapshot.write(containerConfig, directory.resolve("container.snapshot")));
+    }
+
+    @Test
+    public void should_read_missing_or_corrupted_file_as_empty_snapshot() throws Exception {
+      Path corrupted = Files.write(directory.resolve("corrupted.snapshot"), new byte[]{1, 2, 3});
+      ContainerConfig config = configWithDependency();
+
+      assertFalse(ContainerSnapshot.read(directory.resolve("missing.snapshot")).matches(config.instanceSuppliers()));
+      assertFalse(ContainerSnapshot.read(corrupted).matches(config.instanceSuppliers()));
+    }
+
+    @Test
+    public void should_write_snapshot_when_config_modules_are_valid() {
+      Path file = directory.resolve("container.snapshot");
+      assertEquals(List.of(), ContainerValidator.validate(file, List.of(ValidConfig.class.getName())));
+
+      assertTrue(ContainerSnapshot.read(file).matches(configWithDependency().instanceSuppliers()));
+    }
+
+    @Test
+    public void should_report_all_missing_dependencies_and_cycles_without_writing_snapshot() {
+      Path file = directory.resolve("container.snapshot");
+      ContainerSnapshot.write(configWithDependency(), file);
+
+      List<RuntimeException> problems = ContainerValidator.validate(file, List.of(InvalidConfig.class.getName()));
+      assertEquals(2, problems.size());
+      assertEquals(new InstanceType(AnotherDependency.class, null),
+                   ((DependencyNotFoundException) problems.get(0)).getDependency());
+      assertEquals(Set.of(Component.class, Dependency.class),
+                   ((CyclicDependencyFoundException) problems.get(1)).getDependencies());
+      assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void should_read_validated_snapshot_from_classpath() throws Exception {
+      ContainerValidator.validate(directory.resolve(ContainerSnapshot.VALIDATED), List.of(ValidConfig.class.getName()));
+      assertFalse(ContainerSnapshot.validated().matches(configWithDependency().instanceSuppliers()));
+
+      ClassLoader original = Thread.currentThread().getContextClassLoader();
+      try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, original)) {
+        Thread.currentThread().setContextClassLoader(loader);
+        assertTrue(ContainerSnapshot.validated().matches(configWithDependency().instanceSuppliers()));
+      } finally {
+        Thread.currentThread().setContextClassLoader(original);
+      }
+    }
+
+    static class ValidConfig implements Config {
+
+      @Export(Dependency.class)
+      DependencyInstance dependency;
+
+      @Export(ComponentWithDependency.class)
+      ComponentWithConstructorDependency component;
+    }
+
+    static class InvalidConfig implements Config {
+
+      @Export(Component.class)
+      SomeComponentWithCyclicDependency component;
+
+      @Export(Dependency.class)
+      DependencyDependedOnComponent dependency;
+
+      @jakarta.inject.Named("missing")
+      @Export(Dependency.class)
+      DependencyDependedOnDependency missing;
+    }
+
+    private static ContainerConfig configWithDependency() {
+      ContainerConfig config = new ContainerConfig();
+      config.injection(InjectionMode.REFLECTIVE);
+      config.bind(Dependency.class, DependencyInstance.class);
+      config.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      return config;
+    }
+  }
+
+  @Nested
+  public class Discovery {
+
+    private static final String PACKAGE = "io.github.wynn5a.di.discovery";
+
+    @Test
+    public void should_register_components_of_package_from_index() {
+      containerConfig.discover(PACKAGE);
+      Container container = containerConfig.getContainer();
+
+      Greeter greeter = container.get(InstanceTypeRef.of(Greeter.class, new NamedQualifier("english"))).get();
+      assertEquals("Hello, world!", greeter.greet("world"));
+      assertSame(container.get(InstanceTypeRef.of(Punctuation.class)).get(),
+                 container.get(InstanceTypeRef.of(Punctuation.class)).get());
+    }
+
+    @Test
+    public void should_not_create_component_until_resolved() {
+      containerConfig.discover(PACKAGE);
+      Container container = containerConfig.getContainer();
+
+      container.get(InstanceTypeRef.of(Greeter.class, new NamedQualifier("english"))).get();
+      assertTrue(Initialized.CLASSES.contains("EnglishGreeter"));
+      assertFalse(Initialized.CLASSES.contains("FrenchGreeter"));
+    }
+
+    @Test
+    public void should_not_bind_interface_implemented_by_more_than_one_component() {
+      containerConfig.discover(PACKAGE);
+      Container container = containerConfig.getContainer();
+
+      assertTrue(container.get(InstanceTypeRef.of(Handler.class)).isEmpty());
+      assertTrue(container.get(InstanceTypeRef.of(OneHandler.class)).isPresent());
+      assertTrue(container.get(InstanceTypeRef.of(AnotherHandler.class)).isPresent());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_bind_interface_implemented_by_components_with_different_qualifiers(InjectionMode mode) {
+      containerConfig.injection(mode);
+      containerConfig.discover(PACKAGE);
+      Container container = containerConfig.getContainer();
+
+      assertEquals("red", container.get(InstanceTypeRef.of(Paint.class, RedPaint.class.getAnnotation(Red.class)))
+                                   .get().color());
+      assertEquals("blue", container.get(InstanceTypeRef.of(Paint.class, BluePaint.class.getAnnotation(Blue.class)))
+                                    .get().color());
+      assertTrue(container.get(InstanceTypeRef.of(Paint.class)).isEmpty());
+    }
+
+    @Test
+    public void should_not_override_existing_binding() {
+      Greeter custom = name -> "Hi, " + name;
+      containerConfig.bind(Greeter.class, custom, new NamedQualifier("english"));
+      containerConfig.discover(PACKAGE);
+
+      assertSame(custom, containerConfig.getContainer()
+                                        .get(InstanceTypeRef.of(Greeter.class, new NamedQualifier("english"))).get());
+    }
+
+    @Test
+    public void should_register_with_reflection_in_reflective_mode() {
+      containerConfig.injection(InjectionMode.REFLECTIVE);
+      containerConfig.discover(PACKAGE);
+
+      Greeter greeter = containerConfig.getContainer()
+                                       .get(InstanceTypeRef.of(Greeter.class, new NamedQualifier("english"))).get();
+      assertEquals("Hello, world!", greeter.greet("world"));
+    }
+
+    @Test
+    public void should_register_nothing_from_package_without_components() {
+      containerConfig.discover(PACKAGE + ".missing");
+      assertTrue(containerConfig.instanceSuppliers().isEmpty());
+    }
+  }
+
+  @Nested
+  public class BindingLookup {
+
+    @Test
+    public void should_find_binding_by_equal_qualifier_of_another_instance() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("one"));
+      Container container = containerConfig.getContainer();
+
+      assertTrue(container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("one"))).isPresent());
+      assertTrue(container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("two"))).isEmpty());
+    }
+
+    @Test
+    public void should_not_reuse_slot_cached_by_another_container() {
+      InstanceTypeRef<Dependency> ref = InstanceTypeRef.of(Dependency.class, new NamedQualifier("one"));
+      containerConfig.bind(Component.class, SomeComponent.class);
+      Container empty = containerConfig.getContainer();
+      assertTrue(empty.get(ref).isEmpty());
+
+      ContainerConfig config = new ContainerConfig();
+      config.bind(Component.class, SomeComponent.class);
+      config.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("one"));
+      Container container = config.getContainer();
+
+      assertTrue(container.get(ref).get() instanceof DependencyInstance);
+      assertTrue(empty.get(ref).isEmpty());
+    }
+
+    @Test
+    public void should_find_every_binding_of_large_container() {
+      int count = 1000;
+      for (int i = 0; i < count; i++) {
+        containerConfig.bind(Dependency.class, new DependencyInstance(), new NamedQualifier(String.valueOf(i)));
+      }
+      Container container = containerConfig.getContainer();
+
+      for (int i = 0; i < count; i++) {
+        assertTrue(container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier(String.valueOf(i)))).isPresent());
+      }
+      assertTrue(container.get(InstanceTypeRef.of(Dependency.class)).isEmpty());
+    }
+  }
+
+  @Nested
+  public class Metrics {
+
+    private final ContainerMetrics metrics = new ContainerMetrics();
+
+    @BeforeEach
+    public void enable() {
+      containerConfig.metrics(metrics);
+    }
+
+    @Test
+    public void should_count_creations_and_singleton_hits_of_each_binding() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+      containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+      Container container = containerConfig.getContainer();
+
+      for (int i = 0; i < 3; i++) {
+        container.get(InstanceTypeRef.of(ComponentWithDependency.class)).get();
+      }
+
+      BindingMetrics dependency = metrics.snapshot().get(new InstanceType(Dependency.class, null));
+      assertEquals(3, dependency.requests());
+      assertEquals(1, dependency.creations());
+      assertEquals(2, dependency.hits());
+      BindingMetrics component = metrics.snapshot().get(new InstanceType(ComponentWithDependency.class, null));
+      assertEquals(3, component.creations());
+      assertEquals(0, component.hits());
+      assertEquals(0, component.inFlight());
+      assertEquals(3, Arrays.stream(component.histogram()).sum());
+      assertTrue(component.creationNanos(0.99) >= component.meanCreationNanos());
+    }
+
+    @Test
+    public void should_share_metrics_of_component_bound_with_multiple_qualifiers() {
+      NamedQualifier one = new NamedQualifier("one");
+      NamedQualifier two = new NamedQualifier("two");
+      containerConfig.bind(Dependency.class, DependencyInstance.class, one, two, new SingletonLiteral());
+      Container container = containerConfig.getContainer();
+
+      container.get(InstanceTypeRef.of(Dependency.class, one)).get();
+      container.get(InstanceTypeRef.of(Dependency.class, two)).get();
+
+      BindingMetrics metricsOfOne = metrics.snapshot().get(new InstanceType(Dependency.class, one));
+      assertEquals(2, metricsOfOne.requests());
+      assertEquals(1, metricsOfOne.creations());
+      assertEquals(metricsOfOne.requests(), metrics.snapshot().get(new InstanceType(Dependency.class, two)).requests());
+    }
+
+    @Test
+    public void should_count_instance_binding_as_hit() {
+      containerConfig.bind(Dependency.class, new DependencyInstance());
+      Container container = containerConfig.getContainer();
+
+      container.get(InstanceTypeRef.of(Dependency.class)).get();
+
+      BindingMetrics dependency = metrics.snapshot().get(new InstanceType(Dependency.class, null));
+      assertEquals(0, dependency.creations());
+      assertEquals(1, dependency.hits());
+    }
+
+    @Test
+    public void should_still_create_measured_singletons_on_eager_start() {
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+      EagerStart eagerStart = new EagerStart();
+
+      containerConfig.getContainer(eagerStart);
+
+      assertEquals(Set.of(new InstanceType(Dependency.class, null)), eagerStart.initTimes().keySet());
+      assertEquals(1, metrics.snapshot().get(new InstanceType(Dependency.class, null)).creations());
+    }
+
+    @Test
+    public void should_not_wrap_suppliers_when_metrics_disabled() {
+      ContainerConfig config = new ContainerConfig();
+      config.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+      InstanceSupplier<?> bound = config.instanceSuppliers().get(new InstanceType(Dependency.class, null));
+
+      ConfiguredContainer container = (ConfiguredContainer) config.getContainer();
+
+      assertTrue(bound instanceof SingletonInstanceSupplier<?>);
+      assertSame(bound, container.suppliers().get(new InstanceType(Dependency.class, null)));
+    }
+
+    @Test
+    public void should_expose_metrics_through_platform_mbean_server() throws Exception {
+      containerConfig.bind(Dependency.class, DependencyInstance.class);
+      Container container = containerConfig.getContainer();
+      container.get(InstanceTypeRef.of(Dependency.class)).get();
+
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = metrics.register("metrics-test");
+      try {
+        TabularData creations = (TabularData) server.getAttribute(name, "Creations");
+        assertEquals(1L, creations.get(new Object[]{Dependency.class.getName()}).get("value"));
+      } finally {
+        server.unregisterMBean(name);
+      }
+    }
+  }
+
+  @Nested
+  public class FlightRecorderEvents {
+
+    @Test
+    public void should_record_build_phases_and_instance_creation(@TempDir Path dir) throws Exception {
+      containerConfig.injection(InjectionMode.REFLECTIVE);
+      List<RecordedEvent> events;
+      try (Recording recording = new Recording()) {
+        Stream.of("ComponentBind", "ComponentScan", "Validation", "ContainerBuild", "InstanceCreation",
+                  "SingletonInitialization")
+              .forEach(name -> recording.enable("io.github.wynn5a.di." + name).withoutThreshold());
+        recording.start();
+        containerConfig.bind(Dependency.class, DependencyInstance.class, new SingletonLiteral());
+        containerConfig.bind(ComponentWithDependency.class, ComponentWithConstructorDependency.class);
+        containerConfig.getContainer().get(InstanceTypeRef.of(ComponentWithDependency.class)).get();
+        recording.stop();
+        Path file = dir.resolve("container.jfr");
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      }
+
+      Map<String, List<RecordedEvent>> byName = events.stream().collect(
+          Collectors.groupingBy(e -> e.getEventType().getName().substring("io.github.wynn5a.di.".length())));
+      assertEquals(Set.of(DependencyInstance.class.getName(), ComponentWithConstructorDependency.class.getName()),
+                   byName.get("ComponentBind").stream().map(e -> e.getClass("component").getName())
+                         .collect(Collectors.toSet()));
+      assertEquals(1, byName.get("Validation").size());
+      assertEquals(2, byName.get("ContainerBuild").get(0).getInt("bindings"));
+      assertEquals(Set.of(DependencyInstance.class.getName(), ComponentWithConstructorDependency.class.getName()),
+                   byName.get("InstanceCreation").stream().map(e -> e.getClass("component").getName())
+                         .collect(Collectors.toSet()));
+      assertEquals(DependencyInstance.class.getName(),
+                   byName.get("SingletonInitialization").get(0).getClass("component").getName());
+    }
+
+    @Test
+    public void should_tell_bindings_of_same_component_apart_in_instance_creation(@TempDir Path dir) throws Exception {
+      containerConfig.injection(InjectionMode.REFLECTIVE);
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("one"));
+      containerConfig.bind(Dependency.class, DependencyInstance.class, new NamedQualifier("two"), new NamedQualifier("three"));
+      Container container = containerConfig.getContainer();
+      List<RecordedEvent> events;
+      try (Recording recording = new Recording()) {
+        recording.enable("io.github.wynn5a.di.InstanceCreation").withoutThreshold();
+        recording.start();
+        container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("one"))).get();
+        container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("three"))).get();
+        recording.stop();
+        Path file = dir.resolve("creation.jfr");
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      }
+
+      assertEquals(List.of(new InstanceType(Dependency.class, new NamedQualifier("one")).key(),
+                           new InstanceType(Dependency.class, new NamedQualifier("two")).key() + ", "
+                           + new InstanceType(Dependency.class, new NamedQualifier("three")).key()),
+                   events.stream().map(e -> e.getString("binding")).toList());
+      assertEquals(Set.of(DependencyInstance.class.getName()),
+                   events.stream().map(e -> e.getClass("component").getName()).collect(Collectors.toSet()));
+    }
+  }
+
+  @Nested
+  public class GeneratedCode {
+
+    @Test
+    public void should_inject_private_members_by_generated_factory() {
+      Dependency dependency = new DependencyInstance();
+      containerConfig.bind(Dependency.class, dependency);
+      containerConfig.bind(Component.class, ComponentWithPrivateInjection.class);
+
+      assertTrue(GeneratedInstanceSupplier.find(ComponentWithPrivateInjection.class).isPresent());
+      Component component = containerConfig.getContainer().get(InstanceTypeRef.of(Component.class, null)).get();
+      ComponentWithPrivateInjection injected = (ComponentWithPrivateInjection) component;
+      assertSame(dependency, injected.byConstructor);
+      assertSame(dependency, injected.byField());
+      assertSame(dependency, injected.byMethod);
+    }
+
+    @Test
+    public void should_bind_named_config_by_generated_bindings() {
+      containerConfig.from(new GeneratedConfig());
+      Container container = containerConfig.getContainer();
+
+      assertTrue(GeneratedBindings.find(GeneratedConfig.class).isPresent());
+      assertSame(GeneratedConfig.dependency, container.get(InstanceTypeRef.of(Dependency.class, null)).get());
+      assertTrue(container.get(InstanceTypeRef.of(Dependency.class, new NamedQualifier("primary")))
+                          .get() instanceof DependencyInstance);
+      assertSame(container.get(InstanceTypeRef.of(Component.class, null)).get(),
+                 container.get(InstanceTypeRef.of(Component.class, null)).get());
+    }
+
+    static class GeneratedConfig implements Config {
+
+      @Export(Dependency.class)
+      static final Dependency dependency = new DependencyInstance();
+
+      @jakarta.inject.Named("primary")
+      @Export(Dependency.class)
+      DependencyInstance primary;
+
+      @Singleton
+      @Export(Component.class)
+      ComponentWithPrivateInjection component;
+    }
+  }
+}
+
+class ComponentWithPrivateInjection implements Component {
+
+  final Dependency byConstructor;
+  @Inject
+  private Dependency byField;
+  Dependency byMethod;
+
+  @Inject
+  private ComponentWithPrivateInjection(Dependency dependency) {
+    this.byConstructor = dependency;
+  }
+
+  @Inject
+  private void install(Dependency dependency) {
+    this.byMethod = dependency;
+  }
+
+  Dependency byField() {
+    return byField;
+  }
+}
+
+@RequestScoped
+class RequestScopedComponent implements Component, AutoCloseable {
+
+  final Dependency dependency;
+  boolean closed;
+  boolean dependencyOpenWhenClosed;
+
+  @Inject
+  RequestScopedComponent(Dependency dependency) {
+    this.dependency = dependency;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    dependencyOpenWhenClosed = !((RequestScopedDependency) dependency).closed;
+  }
+}
+
+@RequestScoped
+class RequestScopedDependency implements Dependency, AutoCloseable {
+
+  boolean closed;
+
+  @Override
+  public void close() {
+    closed = true;
+  }
+}
+
+@ThreadScoped
+class ThreadScopedDependency implements Dependency {
+
+}
+
+class SlowSingleton implements Component {
+
+  static final long MILLIS = 300;
+
+  SlowSingleton() {
+    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(MILLIS));
+  }
+}
+
+class AnotherSlowSingleton implements Dependency {
+
+  AnotherSlowSingleton() {
+    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(SlowSingleton.MILLIS));
+  }
+}
+
+class ComponentWithSlowDependencies {
+
+  final Component component;
+  final Dependency dependency;
+
+  @Inject
+  ComponentWithSlowDependencies(Component component, Dependency dependency) {
+    this.component = component;
+    this.dependency = dependency;
+  }
+}
+
+class ComponentWithSameSlowDependencyTwice {
+
+  final Component component;
+  @Inject
+  Component another;
+
+  @Inject
+  ComponentWithSameSlowDependencyTwice(Component component) {
+    this.component = component;
+  }
+}
+
+class ComponentWithMultibindings implements Component {
+
+  @Inject
+  Set<Dependency> all;
+
+  @Inject
+  Map<String, Dependency> named;
+}
+
+class ComponentWithFutureDependency {
+
+  @Inject
+  CompletableFuture<Dependency> dependency;
+}
+
+class ComponentWithPooledDependency {
+
+  @Inject
+  Pool<Dependency> dependencies;
+}
+
+class ComponentWithPooledSetDependency {
+
+  @Inject
+  Set<Dependency> dependencies;
+}
+
+class ComponentWithPooledMapDependency {
+
+  @Inject
+  Map<String, Dependency> dependencies;
+}
+
+interface Heavy {
+
+  int value();
+}
+
+class ComponentWithLazyDependency {
+
+  final Heavy byConstructor;
+
+  @Inject
+  @Lazy
+  Heavy byField;
+
+  @Inject
+  ComponentWithLazyDependency(@Lazy Heavy heavy) {
+    this.byConstructor = heavy;
+  }
+}
+
+class ComponentWithLazyCyclicDependency implements Component {
+
+  final Dependency dependency;
+
+  @Inject
+  ComponentWithLazyCyclicDependency(@Lazy Dependency dependency) {
+    this.dependency = dependency;
+  }
+}
+
+class ComponentWithLazyClass {
+
+  @Inject
+  ComponentWithLazyClass(@Lazy DependencyInstance dependency) {
+  }
+}
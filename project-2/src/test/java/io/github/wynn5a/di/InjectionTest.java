@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.wynn5a.di.ContainerTest.TypeBinding.Two;
@@ -15,13 +19,17 @@ import io.github.wynn5a.di.exception.MultiInjectAnnotationFoundException;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 
 /**
@@ -393,6 +401,188 @@ public class InjectionTest {
       }
     }
   }
+
+  @Nested
+  public class LinkTest {
+
+    private final InstanceSupplier<Dependency> linked = c -> dependency;
+
+    @Test
+    public void should_not_look_up_container_once_dependencies_are_linked() {
+      InjectedInstanceSupplier<ComponentWithConstructorDependency> supplier = new InjectedInstanceSupplier<>(ComponentWithConstructorDependency.class);
+      supplier.link(ref -> linked);
+      Mockito.reset(container);
+      assertSame(dependency, supplier.get(container).getDependency());
+      verify(container, never()).get(any());
+    }
+
+    @Test
+    public void should_inject_linked_dependency_to_field_and_method() {
+      InjectedInstanceSupplier<ComponentWithFieldInject> field = new InjectedInstanceSupplier<>(ComponentWithFieldInject.class);
+      InjectedInstanceSupplier<ComponentWithMethodInject> method = new InjectedInstanceSupplier<>(ComponentWithMethodInject.class);
+      field.link(ref -> linked);
+      method.link(ref -> linked);
+      Mockito.reset(container);
+      assertSame(dependency, field.get(container).getDependency());
+      assertSame(dependency, method.get(container).getDependency());
+      verify(container, never()).get(any());
+    }
+
+    @Test
+    public void should_link_each_injection_point_by_its_own_reference() {
+      InjectedInstanceSupplier<ComponentWithSupplierFieldDependency> supplier = new InjectedInstanceSupplier<>(ComponentWithSupplierFieldDependency.class);
+      supplier.link(ref -> ref.equals(InstanceTypeRef.of(supplierType)) ? c -> dependencySupplier : null);
+      assertSame(dependencySupplier, supplier.get(container).getDependency());
+    }
+  }
+
+  @Nested
+  public class InjectionModeTest {
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_inject_by_constructor_in_any_mode(InjectionMode mode) {
+      ComponentWithConstructorDependency component = new InjectedInstanceSupplier<>(ComponentWithConstructorDependency.class, mode).get(container);
+      assertSame(dependency, component.getDependency());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_inject_private_field_of_super_class_in_any_mode(InjectionMode mode) {
+      SubClassOfComponentWithFieldInject component = new InjectedInstanceSupplier<>(SubClassOfComponentWithFieldInject.class, mode).get(container);
+      assertSame(dependency, component.getDependency());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_call_inject_methods_in_order_in_any_mode(InjectionMode mode) {
+      SubComponentWithMethodInject component = new InjectedInstanceSupplier<>(SubComponentWithMethodInject.class, mode).get(container);
+      assertEquals(1, component.called);
+      assertEquals(2, component.subCall);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_wrap_exception_thrown_by_constructor_in_any_mode(InjectionMode mode) {
+      InjectedInstanceSupplier<ComponentFailedToConstruct> supplier = new InjectedInstanceSupplier<>(ComponentFailedToConstruct.class, mode);
+      assertThrows(RuntimeException.class, () -> supplier.get(container));
+    }
+
+    @ParameterizedTest
+    @EnumSource(InjectionMode.class)
+    public void should_rethrow_error_thrown_by_constructor_without_reporting_in_any_mode(InjectionMode mode) {
+      List<Object> reported = new ArrayList<>();
+      InjectedInstanceSupplier<ComponentFailedWithError> supplier = new InjectedInstanceSupplier<>(
+          ComponentFailedWithError.class, mode, (component, dependencies, error) -> reported.add(error));
+      assertThrows(StackOverflowError.class, () -> supplier.get(container));
+      assertEquals(List.of(), reported);
+    }
+  }
+
+  @Nested
+  public class AllocationTest {
+
+    private static final int WARM_UP = 200_000;
+    private static final int RESOLUTIONS = 100_000;
+    // component instance with one reference field plus a one-element argument array, with headroom for object alignment
+    private static final long BYTES_PER_RESOLUTION = 64;
+
+    private final Dependency linkedDependency = new DependencyInstance();
+
+    @Test
+    public void should_only_allocate_instance_and_constructor_arguments_for_constructor_injection() {
+      assertAllocatedBytesPerResolution(ComponentWithConstructorDependency.class);
+    }
+
+    @Test
+    public void should_only_allocate_instance_for_field_injection() {
+      assertAllocatedBytesPerResolution(ComponentWithFieldInject.class);
+    }
+
+    @Test
+    public void should_only_allocate_instance_for_method_injection() {
+      assertAllocatedBytesPerResolution(ComponentWithMethodInject.class);
+    }
+
+    @Test
+    public void should_report_failure_with_dependencies_of_component() {
+      List<Object> reported = new ArrayList<>();
+      InjectedInstanceSupplier<ComponentFailedToConstruct> supplier = new InjectedInstanceSupplier<>(
+          ComponentFailedToConstruct.class, InjectionMode.COMPILED,
+          (component, dependencies, error) -> reported.addAll(List.of(component, dependencies, error)));
+
+      RuntimeException exception = assertThrows(RuntimeException.class, () -> supplier.get(container));
+      assertEquals(List.of(ComponentFailedToConstruct.class, supplier.dependencies(), exception.getCause()), reported);
+      assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    private void assertAllocatedBytesPerResolution(Class<? extends ComponentWithDependency> component) {
+      InjectedInstanceSupplier<? extends ComponentWithDependency> supplier = new InjectedInstanceSupplier<>(component);
+      supplier.link(ref -> c -> linkedDependency);
+      com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long thread = Thread.currentThread().getId();
+
+      resolve(supplier, WARM_UP);
+      long before = threads.getThreadAllocatedBytes(thread);
+      resolve(supplier, RESOLUTIONS);
+      long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+      assertTrue(allocated / RESOLUTIONS <= BYTES_PER_RESOLUTION,
+                 () -> allocated / RESOLUTIONS + " bytes allocated per resolution of " + component.getSimpleName());
+    }
+
+    private void resolve(InjectedInstanceSupplier<? extends ComponentWithDependency> supplier, int times) {
+      for (int i = 0; i < times; i++) {
+        assertSame(linkedDependency, supplier.get(container).getDependency());
+      }
+    }
+  }
+
+  @Nested
+  public class InjectionPointsTest {
+
+    @Test
+    public void should_scan_component_class_only_once() {
+      assertSame(InjectionPoints.of(SubComponentWithMethodInject.class),
+                 InjectionPoints.of(SubComponentWithMethodInject.class));
+      assertSame(InjectionPoints.of(SubComponentWithMethodInject.class).injector(InjectionMode.COMPILED),
+                 InjectionPoints.of(SubComponentWithMethodInject.class).injector(InjectionMode.COMPILED));
+    }
+
+    @Test
+    public void should_throw_exception_every_time_for_illegal_component() {
+      assertThrows(IllegalComponentException.class, () -> InjectionPoints.of(AbstractComponent.class));
+      assertThrows(IllegalComponentException.class, () -> InjectionPoints.of(AbstractComponent.class));
+    }
+
+    @Test
+    public void should_inject_overridden_method_once_with_cached_injection_points() {
+      SubWithMethodInjectOverride first = new InjectedInstanceSupplier<>(SubWithMethodInjectOverride.class).get(container);
+      SubWithMethodInjectOverride second = new InjectedInstanceSupplier<>(SubWithMethodInjectOverride.class).get(container);
+      assertEquals(1, first.called);
+      assertEquals(1, second.called);
+    }
+
+    @Test
+    public void should_use_preloaded_injection_points_instead_of_scanning() throws Exception {
+      InjectionPoints.preload(PreloadedComponent.class, PreloadedComponent.class.getDeclaredConstructor(), List.of(),
+                              List.of(PreloadedComponent.class.getDeclaredMethod("install", Dependency.class)));
+
+      InjectionPoints<PreloadedComponent> points = InjectionPoints.of(PreloadedComponent.class);
+      assertTrue(points.fields.isEmpty());
+      assertEquals(List.of(InstanceTypeRef.of(Dependency.class)), points.dependencies);
+    }
+  }
+}
+
+class PreloadedComponent {
+
+  @Inject
+  Dependency dependency;
+
+  @Inject
+  void install(Dependency dependency) {
+  }
 }
 
 class ComponentWithMultiQualifierMethodInject {
@@ -403,6 +593,20 @@ class ComponentWithMultiQualifierMethodInject {
   }
 }
 
+class ComponentFailedToConstruct implements Component {
+
+  ComponentFailedToConstruct() {
+    throw new IllegalStateException("failed");
+  }
+}
+
+class ComponentFailedWithError implements Component {
+
+  ComponentFailedWithError() {
+    throw new StackOverflowError();
+  }
+}
+
 class ComponentWithProviderDependency{
   Provider<Dependency> dependencyProvider;
   @Inject
@@ -65,6 +65,21 @@ record PooledLiteral() implements Pooled {
   }
 }
 
+@Scope
+@Documented
+@Retention(RUNTIME)
+@interface Cached {
+
+}
+
+record CachedLiteral() implements Cached {
+
+  @Override
+  public Class<? extends Annotation> annotationType() {
+    return Cached.class;
+  }
+}
+
 final class PooledInstanceSupplier<T> implements InstanceSupplier<T> {
 
   private final InstanceSupplier<T> supplier;
@@ -0,0 +1,12 @@
+package io.github.wynn5a.di.discovery;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.inject.Qualifier;
+import java.lang.annotation.Retention;
+
+@Qualifier
+@Retention(RUNTIME)
+public @interface Blue {
+
+}
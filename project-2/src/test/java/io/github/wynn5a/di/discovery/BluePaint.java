@@ -0,0 +1,10 @@
+package io.github.wynn5a.di.discovery;
+
+@Blue
+public class BluePaint implements Paint {
+
+  @Override
+  public String color() {
+    return "blue";
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.wynn5a.di.discovery;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+@Named("english")
+public class EnglishGreeter implements Greeter {
+
+  static {
+    Initialized.CLASSES.add(EnglishGreeter.class.getSimpleName());
+  }
+
+  private final Punctuation punctuation;
+
+  @Inject
+  EnglishGreeter(Punctuation punctuation) {
+    this.punctuation = punctuation;
+  }
+
+  @Override
+  public String greet(String name) {
+    return "Hello, " + name + punctuation.end();
+  }
+}
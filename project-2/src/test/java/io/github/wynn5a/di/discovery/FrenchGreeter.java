@@ -0,0 +1,16 @@
+package io.github.wynn5a.di.discovery;
+
+import jakarta.inject.Named;
+
+@Named("french")
+public class FrenchGreeter implements Greeter {
+
+  static {
+    Initialized.CLASSES.add(FrenchGreeter.class.getSimpleName());
+  }
+
+  @Override
+  public String greet(String name) {
+    return "Bonjour, " + name;
+  }
+}
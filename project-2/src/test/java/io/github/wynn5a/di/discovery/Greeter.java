@@ -0,0 +1,12 @@
+package io.github.wynn5a.di.discovery;
+
+/**
+ * 通过组件索引注册的组件，ContainerTest.Discovery 使用
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public interface Greeter {
+
+  String greet(String name);
+}
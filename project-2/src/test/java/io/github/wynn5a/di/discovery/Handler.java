@@ -0,0 +1,5 @@
+package io.github.wynn5a.di.discovery;
+
+public interface Handler {
+
+}
@@ -0,0 +1,15 @@
+package io.github.wynn5a.di.discovery;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 记录已经初始化的组件类，组件的静态初始化块在第一次创建时才会执行
+ */
+public final class Initialized {
+
+  public static final Set<String> CLASSES = ConcurrentHashMap.newKeySet();
+
+  private Initialized() {
+  }
+}
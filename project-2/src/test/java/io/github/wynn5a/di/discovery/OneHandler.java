@@ -0,0 +1,10 @@
+package io.github.wynn5a.di.discovery;
+
+import jakarta.inject.Inject;
+
+public class OneHandler implements Handler {
+
+  @Inject
+  public OneHandler() {
+  }
+}
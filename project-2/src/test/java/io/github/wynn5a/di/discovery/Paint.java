@@ -0,0 +1,12 @@
+package io.github.wynn5a.di.discovery;
+
+/**
+ * 由两个自定义 qualifier 不同的组件实现，ContainerTest.Discovery 使用
+ *
+ * @author wynn5a
+ * @date 2026/10/18
+ */
+public interface Paint {
+
+  String color();
+}
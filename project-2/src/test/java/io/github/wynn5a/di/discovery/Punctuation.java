@@ -0,0 +1,11 @@
+package io.github.wynn5a.di.discovery;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class Punctuation {
+
+  public String end() {
+    return "!";
+  }
+}
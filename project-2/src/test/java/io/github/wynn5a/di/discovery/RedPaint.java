@@ -0,0 +1,10 @@
+package io.github.wynn5a.di.discovery;
+
+@Red
+public class RedPaint implements Paint {
+
+  @Override
+  public String color() {
+    return "red";
+  }
+}